@@ -0,0 +1,86 @@
+package org.example.pagegen;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.pagefactory.ElementLocator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * PageFactory locator that keeps the element it found until the page replaces it
+ * Shared by the reflective page proxies and the generated binders, so both feed the same cache counters
+ * Callers report staleness through {@link #invalidate()}; lists are always looked up afresh
+ */
+public class CachingElementLocator implements ElementLocator {
+
+    private static final Logger logger = LoggerFactory.getLogger(CachingElementLocator.class);
+
+    private static final AtomicLong hits = new AtomicLong();
+    private static final AtomicLong misses = new AtomicLong();
+    private static final AtomicLong staleResolutions = new AtomicLong();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> logger.info(
+                "Element cache: {} hits, {} lookups, {} stale re-resolutions", hits.get(), misses.get(), staleResolutions.get())));
+    }
+
+    private final SearchContext searchContext;
+    private final By by;
+    private volatile WebElement cachedElement;
+
+    public CachingElementLocator(SearchContext searchContext, By by) {
+        this.searchContext = searchContext;
+        this.by = by;
+    }
+
+    @Override
+    public WebElement findElement() {
+        WebElement element = cachedElement;
+        if (element != null) {
+            hits.incrementAndGet();
+            return element;
+        }
+        misses.incrementAndGet();
+        element = searchContext.findElement(by);
+        cachedElement = element;
+        return element;
+    }
+
+    @Override
+    public List<WebElement> findElements() {
+        return searchContext.findElements(by);
+    }
+
+    /**
+     * Forget the cached element, e.g. after it went stale, so the next lookup resolves it again
+     */
+    public void invalidate() {
+        cachedElement = null;
+        staleResolutions.incrementAndGet();
+    }
+
+    public By getBy() {
+        return by;
+    }
+
+    public static long getHits() {
+        return hits.get();
+    }
+
+    public static long getMisses() {
+        return misses.get();
+    }
+
+    public static long getStaleResolutions() {
+        return staleResolutions.get();
+    }
+
+    @Override
+    public String toString() {
+        return "CachingElementLocator '" + by + "'";
+    }
+}
@@ -0,0 +1,15 @@
+package org.example.pagegen;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a page object whose element fields are bound by generated code instead of PageFactory proxies
+ * Bound fields must not be private; {@link PageElementsProcessor} writes a {@code <Page>_Elements} binder
+ */
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface GeneratedElements {
+}
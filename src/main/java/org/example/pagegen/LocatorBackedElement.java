@@ -0,0 +1,176 @@
+package org.example.pagegen;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.interactions.Coordinates;
+import org.openqa.selenium.interactions.Locatable;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Element field resolved through its {@link CachingElementLocator} on first use and kept until the page replaces it
+ * A call that hits a stale element invalidates the locator, looks the element up again and is retried once
+ */
+public final class LocatorBackedElement implements WebElement, WrapsElement, Locatable {
+
+    private final CachingElementLocator locator;
+
+    public LocatorBackedElement(CachingElementLocator locator) {
+        this.locator = locator;
+    }
+
+    // A stale element never received the call, so one retry on a fresh lookup is safe
+    private <T> T call(Function<WebElement, T> action) {
+        try {
+            return action.apply(locator.findElement());
+        } catch (StaleElementReferenceException e) {
+            locator.invalidate();
+            return action.apply(locator.findElement());
+        }
+    }
+
+    private void run(Consumer<WebElement> action) {
+        call(resolved -> {
+            action.accept(resolved);
+            return null;
+        });
+    }
+
+    public By getBy() {
+        return locator.getBy();
+    }
+
+    @Override
+    public WebElement getWrappedElement() {
+        return locator.findElement();
+    }
+
+    @Override
+    public Coordinates getCoordinates() {
+        return call(resolved -> ((Locatable) resolved).getCoordinates());
+    }
+
+    @Override
+    public void click() {
+        run(WebElement::click);
+    }
+
+    @Override
+    public void submit() {
+        run(WebElement::submit);
+    }
+
+    @Override
+    public void sendKeys(CharSequence... keysToSend) {
+        run(resolved -> resolved.sendKeys(keysToSend));
+    }
+
+    @Override
+    public void clear() {
+        run(WebElement::clear);
+    }
+
+    @Override
+    public String getTagName() {
+        return call(WebElement::getTagName);
+    }
+
+    @Override
+    public String getDomProperty(String name) {
+        return call(resolved -> resolved.getDomProperty(name));
+    }
+
+    @Override
+    public String getDomAttribute(String name) {
+        return call(resolved -> resolved.getDomAttribute(name));
+    }
+
+    @Override
+    public String getAttribute(String name) {
+        return call(resolved -> resolved.getAttribute(name));
+    }
+
+    @Override
+    public String getAriaRole() {
+        return call(WebElement::getAriaRole);
+    }
+
+    @Override
+    public String getAccessibleName() {
+        return call(WebElement::getAccessibleName);
+    }
+
+    @Override
+    public boolean isSelected() {
+        return call(WebElement::isSelected);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return call(WebElement::isEnabled);
+    }
+
+    @Override
+    public boolean isDisplayed() {
+        return call(WebElement::isDisplayed);
+    }
+
+    @Override
+    public String getText() {
+        return call(WebElement::getText);
+    }
+
+    @Override
+    public List<WebElement> findElements(By locator) {
+        return call(resolved -> resolved.findElements(locator));
+    }
+
+    @Override
+    public WebElement findElement(By locator) {
+        return call(resolved -> resolved.findElement(locator));
+    }
+
+    @Override
+    public SearchContext getShadowRoot() {
+        return call(WebElement::getShadowRoot);
+    }
+
+    @Override
+    public Point getLocation() {
+        return call(WebElement::getLocation);
+    }
+
+    @Override
+    public Dimension getSize() {
+        return call(WebElement::getSize);
+    }
+
+    @Override
+    public Rectangle getRect() {
+        return call(WebElement::getRect);
+    }
+
+    @Override
+    public String getCssValue(String propertyName) {
+        return call(resolved -> resolved.getCssValue(propertyName));
+    }
+
+    @Override
+    public <X> X getScreenshotAs(OutputType<X> target) {
+        return call(resolved -> resolved.getScreenshotAs(target));
+    }
+
+    @Override
+    public String toString() {
+        return "LocatorBackedElement '" + locator.getBy() + "'";
+    }
+}
@@ -0,0 +1,97 @@
+package org.example.pagegen;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Element list field looked up afresh on every call, like a PageFactory list proxy
+ * Bulk operations and iteration take one snapshot instead of a lookup per element
+ */
+public final class LocatorBackedElementList extends AbstractList<WebElement> {
+
+    private final CachingElementLocator locator;
+
+    public LocatorBackedElementList(CachingElementLocator locator) {
+        this.locator = locator;
+    }
+
+    private List<WebElement> snapshot() {
+        return locator.findElements();
+    }
+
+    public By getBy() {
+        return locator.getBy();
+    }
+
+    @Override
+    public WebElement get(int index) {
+        return snapshot().get(index);
+    }
+
+    @Override
+    public int size() {
+        return snapshot().size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return snapshot().isEmpty();
+    }
+
+    @Override
+    public Iterator<WebElement> iterator() {
+        return snapshot().iterator();
+    }
+
+    @Override
+    public ListIterator<WebElement> listIterator(int index) {
+        return snapshot().listIterator(index);
+    }
+
+    @Override
+    public List<WebElement> subList(int fromIndex, int toIndex) {
+        return snapshot().subList(fromIndex, toIndex);
+    }
+
+    @Override
+    public Object[] toArray() {
+        return snapshot().toArray();
+    }
+
+    @Override
+    public <T> T[] toArray(T[] array) {
+        return snapshot().toArray(array);
+    }
+
+    @Override
+    public boolean contains(Object element) {
+        return snapshot().contains(element);
+    }
+
+    @Override
+    public int indexOf(Object element) {
+        return snapshot().indexOf(element);
+    }
+
+    @Override
+    public void forEach(Consumer<? super WebElement> action) {
+        snapshot().forEach(action);
+    }
+
+    @Override
+    public Stream<WebElement> stream() {
+        return snapshot().stream();
+    }
+
+    @Override
+    public String toString() {
+        return "LocatorBackedElementList '" + locator.getBy() + "'";
+    }
+}
@@ -0,0 +1,13 @@
+package org.example.pagegen;
+
+import org.openqa.selenium.SearchContext;
+
+/**
+ * Generated binder that points the element fields of one page class at locator-backed elements
+ */
+public interface PageElementBinder<T> {
+
+    Class<T> pageClass();
+
+    void bind(T page, SearchContext searchContext);
+}
@@ -0,0 +1,39 @@
+package org.example.pagegen;
+
+import org.openqa.selenium.SearchContext;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.ServiceLoader;
+
+/**
+ * Generated binders found on the classpath, looked up once and then by page class
+ */
+public final class PageElementBinders {
+
+    private static final Map<Class<?>, PageElementBinder<?>> bindersByPage = loadBinders();
+
+    private PageElementBinders() {
+    }
+
+    /**
+     * Bind the page's element fields with its generated binder; false when the page has none
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> boolean bind(T page, SearchContext searchContext) {
+        PageElementBinder<T> binder = (PageElementBinder<T>) bindersByPage.get(page.getClass());
+        if (binder == null) {
+            return false;
+        }
+        binder.bind(page, searchContext);
+        return true;
+    }
+
+    private static Map<Class<?>, PageElementBinder<?>> loadBinders() {
+        Map<Class<?>, PageElementBinder<?>> binders = new HashMap<>();
+        for (PageElementBinder<?> binder : ServiceLoader.load(PageElementBinder.class)) {
+            binders.put(binder.pageClass(), binder);
+        }
+        return binders;
+    }
+}
@@ -0,0 +1,211 @@
+package org.example.pagegen;
+
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.How;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Writes a {@code <Page>_Elements} binder for every {@link GeneratedElements} page
+ * Each binder holds the page's locators as By constants and assigns elements backed by a {@link CachingElementLocator}
+ * to its fields, so binding a page needs neither reflection nor dynamic proxies
+ */
+@SupportedAnnotationTypes("org.example.pagegen.GeneratedElements")
+public class PageElementsProcessor extends AbstractProcessor {
+
+    private static final String SERVICE_FILE = "META-INF/services/" + PageElementBinder.class.getName();
+
+    private final List<String> binders = new ArrayList<>();
+
+    private record BoundField(String name, String constant, String byExpression, boolean list) {
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(GeneratedElements.class)) {
+            if (element.getKind() == ElementKind.CLASS) {
+                generateBinder((TypeElement) element);
+            }
+        }
+        if (roundEnv.processingOver() && !binders.isEmpty()) {
+            writeServiceFile();
+        }
+        return true;
+    }
+
+    private void generateBinder(TypeElement page) {
+        List<BoundField> fields = new ArrayList<>();
+        for (VariableElement field : ElementFilter.fieldsIn(page.getEnclosedElements())) {
+            boolean list = isElementList(field.asType());
+            if (!list && !isType(field.asType(), "org.openqa.selenium.WebElement")) {
+                continue;
+            }
+            FindBy findBy = field.getAnnotation(FindBy.class);
+            if (list && findBy == null) {
+                continue;
+            }
+            if (field.getModifiers().contains(Modifier.PRIVATE) || field.getModifiers().contains(Modifier.FINAL)
+                    || field.getModifiers().contains(Modifier.STATIC)) {
+                error(field, "Generated element fields must be non-private, non-final instance fields");
+                continue;
+            }
+            String name = field.getSimpleName().toString();
+            String byExpression = findBy != null ? byExpression(field, findBy) : byIdOrName(name);
+            if (byExpression != null) {
+                fields.add(new BoundField(name, constantName(name), byExpression, list));
+            }
+        }
+
+        String packageName = processingEnv.getElementUtils().getPackageOf(page).getQualifiedName().toString();
+        String pageName = page.getSimpleName().toString();
+        String binderName = pageName + "_Elements";
+        StringBuilder source = new StringBuilder();
+        source.append("package ").append(packageName).append(";\n\n");
+        source.append("import org.example.pagegen.CachingElementLocator;\n");
+        source.append("import org.example.pagegen.LocatorBackedElement;\n");
+        source.append("import org.example.pagegen.LocatorBackedElementList;\n");
+        source.append("import org.example.pagegen.PageElementBinder;\n");
+        source.append("import org.openqa.selenium.By;\n");
+        source.append("import org.openqa.selenium.SearchContext;\n\n");
+        source.append("/**\n * Element binder for {@link ").append(pageName).append("}, generated by ")
+                .append(PageElementsProcessor.class.getSimpleName()).append("; do not edit\n */\n");
+        source.append("public final class ").append(binderName).append(" implements PageElementBinder<")
+                .append(pageName).append("> {\n\n");
+        for (BoundField field : fields) {
+            source.append("    public static final By ").append(field.constant()).append(" = ")
+                    .append(field.byExpression()).append(";\n");
+        }
+        source.append("\n    @Override\n    public Class<").append(pageName).append("> pageClass() {\n");
+        source.append("        return ").append(pageName).append(".class;\n    }\n");
+        source.append("\n    @Override\n    public void bind(").append(pageName).append(" page, SearchContext searchContext) {\n");
+        for (BoundField field : fields) {
+            source.append("        page.").append(field.name()).append(" = new ")
+                    .append(field.list() ? "LocatorBackedElementList" : "LocatorBackedElement")
+                    .append("(new CachingElementLocator(searchContext, ").append(field.constant()).append("));\n");
+        }
+        source.append("    }\n}\n");
+
+        String qualifiedName = packageName.isEmpty() ? binderName : packageName + "." + binderName;
+        try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, page).openWriter()) {
+            writer.write(source.toString());
+            binders.add(qualifiedName);
+        } catch (IOException e) {
+            error(page, "Could not write " + qualifiedName + ": " + e.getMessage());
+        }
+    }
+
+    // Exactly one strategy per field, the rule PageFactory enforces when it builds the By at runtime
+    private String byExpression(VariableElement field, FindBy findBy) {
+        List<String> strategies = new ArrayList<>();
+        addStrategy(strategies, "By.id", findBy.id());
+        addStrategy(strategies, "By.name", findBy.name());
+        addStrategy(strategies, "By.className", findBy.className());
+        addStrategy(strategies, "By.cssSelector", findBy.css());
+        addStrategy(strategies, "By.tagName", findBy.tagName());
+        addStrategy(strategies, "By.linkText", findBy.linkText());
+        addStrategy(strategies, "By.partialLinkText", findBy.partialLinkText());
+        addStrategy(strategies, "By.xpath", findBy.xpath());
+        if (findBy.how() != How.UNSET) {
+            strategies.add(howExpression(findBy.how(), findBy.using()));
+        }
+        if (strategies.size() > 1) {
+            error(field, "@FindBy on " + field.getSimpleName() + " sets " + strategies.size()
+                    + " locator strategies; use exactly one");
+            return null;
+        }
+        if (strategies.isEmpty() || (findBy.how() != How.UNSET && findBy.using().isEmpty())) {
+            error(field, "@FindBy on " + field.getSimpleName() + " has no locator");
+            return null;
+        }
+        return strategies.get(0);
+    }
+
+    private void addStrategy(List<String> strategies, String factory, String value) {
+        if (!value.isEmpty()) {
+            strategies.add(factory + "(" + literal(value) + ")");
+        }
+    }
+
+    private String howExpression(How how, String using) {
+        return switch (how) {
+            case ID -> "By.id(" + literal(using) + ")";
+            case NAME -> "By.name(" + literal(using) + ")";
+            case CLASS_NAME -> "By.className(" + literal(using) + ")";
+            case CSS -> "By.cssSelector(" + literal(using) + ")";
+            case TAG_NAME -> "By.tagName(" + literal(using) + ")";
+            case LINK_TEXT -> "By.linkText(" + literal(using) + ")";
+            case PARTIAL_LINK_TEXT -> "By.partialLinkText(" + literal(using) + ")";
+            case XPATH -> "By.xpath(" + literal(using) + ")";
+            case ID_OR_NAME, UNSET -> byIdOrName(using);
+        };
+    }
+
+    private String byIdOrName(String idOrName) {
+        return "new org.openqa.selenium.support.pagefactory.ByIdOrName(" + literal(idOrName) + ")";
+    }
+
+    private void writeServiceFile() {
+        try {
+            FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+            try (Writer writer = file.openWriter()) {
+                for (String binder : binders) {
+                    writer.write(binder + "\n");
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Could not write " + SERVICE_FILE + ": " + e.getMessage());
+        }
+    }
+
+    private boolean isElementList(TypeMirror type) {
+        if (!isType(type, "java.util.List") || !(type instanceof DeclaredType declared)
+                || declared.getTypeArguments().size() != 1) {
+            return false;
+        }
+        return isType(declared.getTypeArguments().get(0), "org.openqa.selenium.WebElement");
+    }
+
+    private boolean isType(TypeMirror type, String qualifiedName) {
+        TypeMirror erased = processingEnv.getTypeUtils().erasure(type);
+        TypeElement expected = processingEnv.getElementUtils().getTypeElement(qualifiedName);
+        return expected != null && processingEnv.getTypeUtils().isSameType(erased,
+                processingEnv.getTypeUtils().erasure(expected.asType()));
+    }
+
+    private String literal(String value) {
+        return processingEnv.getElementUtils().getConstantExpression(value);
+    }
+
+    private static String constantName(String fieldName) {
+        return fieldName.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toUpperCase(Locale.ROOT);
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+}
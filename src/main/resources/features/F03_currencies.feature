@@ -3,4 +3,8 @@ Feature: F03_currency | testing currency
 
   Scenario: user could select euro currency
     When user select euro option
-    Then euro symbol is displayed on all products
\ No newline at end of file
+    Then euro symbol is displayed on all products
+
+  Scenario: products are priced in euro when euro is the preset currency
+    Given the store currency is "Euro"
+    Then euro symbol is displayed on all products
@@ -5,4 +5,11 @@
       When put a product to wishlist
       And check the success message
       And user go to wishlist page
-      Then check the product quantity
\ No newline at end of file
+      Then check the product quantity
+
+    Scenario: logged in user puts a product in wishlist and gets its quantity
+      Given user is logged in with a leased account
+      When put a product to wishlist
+      And check the success message
+      And user go to wishlist page
+      Then check the product quantity
@@ -1,15 +1,24 @@
 package org.example.core;
 
+import org.example.pagegen.PageElementBinders;
 import org.openqa.selenium.*;
 import org.openqa.selenium.support.PageFactory;
+import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.Select;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.openqa.selenium.interactions.Actions;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
 
 public abstract class BasePage {
     
@@ -19,21 +28,119 @@ public abstract class BasePage {
     protected Actions actions;
     protected String baseUrl = "https://demo.nopcommerce.com";
     
+    private static final Duration WAIT_TIMEOUT = Duration.ofSeconds(20);
+    private static final Properties config = TestConfig.properties();
+    private static final Duration NETWORK_QUIET_WINDOW = Duration.ofMillis(
+            Long.parseLong(config.getProperty("network.idle.quiet.ms", "500")));
+    private static final Duration SCROLL_SETTLE_TIMEOUT = Duration.ofSeconds(3);
+    private static final boolean COMPOSITE_ACTIONS = "composite".equalsIgnoreCase(config.getProperty("interaction.mode", "native"));
+    private static final boolean INSTANT_SCROLL = "instant".equalsIgnoreCase(config.getProperty("scroll.behavior", "auto"));
+    
+    // Hidden elements read as empty text, as WebElement.getText does
+    private static final String READ_ELEMENTS_SCRIPT =
+            "var attributes = arguments[1];" +
+            DomWaitEngine.DISPLAYED_FUNCTION +
+            "return arguments[0].map(function (e) {" +
+            "  var shown = displayed(e), values = {};" +
+            "  attributes.forEach(function (name) { values[name] = e.getAttribute(name); });" +
+            "  return { text: shown ? e.innerText.replace(/[ \\t\\u00a0]+/g, ' ').trim() : '', displayed: shown, attributes: values };" +
+            "});";
+    
+    // Same strategies the driver resolves remotely; id, name and class name arrive as CSS selectors
+    private static final String FIND_NOW_SCRIPT =
+            "var using = arguments[0], value = arguments[1];" +
+            "if (using === 'css selector') { return Array.prototype.slice.call(document.querySelectorAll(value)); }" +
+            "if (using === 'tag name') { return Array.prototype.slice.call(document.getElementsByTagName(value)); }" +
+            "if (using === 'xpath') {" +
+            "  var result = document.evaluate(value, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null), found = [];" +
+            "  for (var i = 0; i < result.snapshotLength; i++) {" +
+            "    if (result.snapshotItem(i).nodeType === Node.ELEMENT_NODE) { found.push(result.snapshotItem(i)); }" +
+            "  }" +
+            "  return found;" +
+            "}" +
+            "return Array.prototype.slice.call(document.querySelectorAll('a')).filter(function (a) {" +
+            "  var text = a.innerText.trim();" +
+            "  return using === 'link text' ? text === value : text.indexOf(value) >= 0;" +
+            "});";
+    
+    // Settled once the element keeps its position for a few animation frames or the browser reports scrollend
+    private static final String SCROLL_SCRIPT =
+            "var el = arguments[0], behavior = arguments[1], timeoutMs = arguments[2];" +
+            "var done = arguments[arguments.length - 1];" +
+            "function inView() {" +
+            "  var r = el.getBoundingClientRect();" +
+            "  return r.bottom > 0 && r.right > 0 && r.top < window.innerHeight && r.left < window.innerWidth;" +
+            "}" +
+            "var finished = false, last = null, stableFrames = 0, timer;" +
+            "function finish() {" +
+            "  if (finished) { return; } finished = true;" +
+            "  window.removeEventListener('scrollend', finish, true); clearTimeout(timer);" +
+            "  done(inView());" +
+            "}" +
+            "el.scrollIntoView({ block: 'start', behavior: behavior });" +
+            "if (behavior === 'instant') { finish(); return; }" +
+            "window.addEventListener('scrollend', finish, true);" +
+            "timer = setTimeout(finish, timeoutMs);" +
+            "(function frame() {" +
+            "  if (finished) { return; }" +
+            "  var r = el.getBoundingClientRect(), position = r.top + ',' + r.left;" +
+            "  stableFrames = position === last ? stableFrames + 1 : 0; last = position;" +
+            "  if (stableFrames >= 3 && inView()) { finish(); } else { requestAnimationFrame(frame); }" +
+            "})();";
+    
+    // Fields that cannot be set like a user would (hidden, disabled, no such option) are returned by index
+    private static final String FILL_FORM_SCRIPT =
+            "var elements = arguments[0], values = arguments[1], rejected = [];" +
+            DomWaitEngine.DISPLAYED_FUNCTION +
+            DomWaitEngine.TEXT_FIELD_FUNCTION +
+            "function findOption(select, value) {" +
+            "  var options = Array.prototype.slice.call(select.options);" +
+            "  return options.find(function (o) { return o.value === value; })" +
+            "    || options.find(function (o) { return o.text.replace(/\\s+/g, ' ').trim() === value; });" +
+            "}" +
+            "elements.forEach(function (el, i) {" +
+            "  var value = values[i];" +
+            "  if (!displayed(el) || el.disabled) { rejected.push(i); return; }" +
+            "  if (el instanceof HTMLSelectElement) {" +
+            "    var option = findOption(el, value);" +
+            "    if (!option) { rejected.push(i); return; }" +
+            "    option.selected = true;" +
+            "  } else if (el instanceof HTMLInputElement && (el.type === 'checkbox' || el.type === 'radio')) {" +
+            "    el.checked = value === 'true';" +
+            "  } else {" +
+            "    var proto = textFieldPrototype(el);" +
+            "    if (!proto || el.readOnly) { rejected.push(i); return; }" +
+            "    el.focus(); Object.getOwnPropertyDescriptor(proto, 'value').set.call(el, value);" +
+            "  }" +
+            "  el.dispatchEvent(new Event('input', { bubbles: true }));" +
+            "  el.dispatchEvent(new Event('change', { bubbles: true }));" +
+            "});" +
+            "return rejected;";
+    
+    private final DomWaitEngine domWaits;
+    private final WaitProfile waitProfile = WaitProfile.shared();
+    
     public BasePage(WebDriver driver) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(20));
+        this.wait = new WebDriverWait(driver, WAIT_TIMEOUT);
+        this.domWaits = new DomWaitEngine(driver, WAIT_TIMEOUT);
         this.logger = LoggerFactory.getLogger(this.getClass());
         this.actions = new Actions(driver);
-        PageFactory.initElements(driver, this);
+        // Generated binders first, then cached proxies; element.cache.enabled=false means plain PageFactory
+        if (!PageMetadata.isCachingEnabled()) {
+            PageFactory.initElements(driver, this);
+        } else if (!PageElementBinders.bind(this, driver)) {
+            PageMetadata.of(getClass()).bind(this, driver);
+        }
     }
     
-    // Common wait methods
+    // Common wait methods: resolved in the page when possible, polled through the driver otherwise
     protected void waitForElementToBeVisible(WebElement element) {
-        wait.until(ExpectedConditions.visibilityOf(element));
+        profiledWait(element, "visible", () -> domWaits.awaitVisible(element), ExpectedConditions.visibilityOf(element));
     }
     
     protected void waitForElementToBeClickable(WebElement element) {
-        wait.until(ExpectedConditions.elementToBeClickable(element));
+        profiledWait(element, "clickable", () -> domWaits.awaitClickable(element), ExpectedConditions.elementToBeClickable(element));
     }
     
     protected void waitForElementToBePresent(By locator) {
@@ -41,14 +148,60 @@ public abstract class BasePage {
     }
     
     protected void waitForTextToBePresent(WebElement element, String text) {
-        wait.until(ExpectedConditions.textToBePresentInElement(element, text));
+        profiledWait(element, "text", () -> domWaits.awaitText(element, text),
+                ExpectedConditions.textToBePresentInElement(element, text));
+    }
+    
+    // Polls at the cadence and within the timeout learned for this element on this page
+    protected <T> T waitProfiled(WebElement element, String condition, Duration maxTimeout, ExpectedCondition<T> expected) {
+        String key = WaitProfile.keyFor(getClass(), element, condition);
+        long start = System.nanoTime();
+        try {
+            return new WebDriverWait(driver, waitProfile.timeout(key, maxTimeout))
+                    .pollingEvery(waitProfile.pollInterval(key))
+                    .until(expected);
+        } finally {
+            // Timed-out waits are recorded too; they are the regressions the profile should flag
+            waitProfile.record(key, Duration.ofNanos(System.nanoTime() - start));
+        }
+    }
+    
+    // Records the readiness time when the in-page action ran or timed out; otherwise the native path's wait records it
+    private boolean profiledAction(WebElement element, String condition, BooleanSupplier inPageAction) {
+        String key = WaitProfile.keyFor(getClass(), element, condition);
+        long start = System.nanoTime();
+        boolean acted = false;
+        boolean completed = false;
+        try {
+            acted = inPageAction.getAsBoolean();
+            completed = true;
+            return acted;
+        } finally {
+            if (acted || !completed) {
+                waitProfile.record(key, Duration.ofNanos(System.nanoTime() - start));
+            }
+        }
+    }
+    
+    private void profiledWait(WebElement element, String condition, BooleanSupplier inPageWait, ExpectedCondition<?> expected) {
+        String key = WaitProfile.keyFor(getClass(), element, condition);
+        long start = System.nanoTime();
+        try {
+            if (!inPageWait.getAsBoolean()) {
+                new WebDriverWait(driver, WAIT_TIMEOUT).pollingEvery(waitProfile.pollInterval(key)).until(expected);
+            }
+        } finally {
+            waitProfile.record(key, Duration.ofNanos(System.nanoTime() - start));
+        }
     }
     
     // Common interaction methods
     public void clickElement(WebElement element) {
         try {
-            waitForElementToBeClickable(element);
-            element.click();
+            if (!COMPOSITE_ACTIONS || !profiledAction(element, "clickable", () -> domWaits.clickWhenActionable(element))) {
+                waitForElementToBeClickable(element);
+                element.click();
+            }
             logger.info("Clicked element: {}", element);
         } catch (Exception e) {
             logger.error("Failed to click element: {}", element, e);
@@ -58,9 +211,9 @@ public abstract class BasePage {
     
     public void sendKeysToElement(WebElement element, String text) {
         try {
-            waitForElementToBeVisible(element);
-            element.clear();
-            element.sendKeys(text);
+            if (!COMPOSITE_ACTIONS || !profiledAction(element, "visible", () -> domWaits.typeWhenActionable(element, text))) {
+                typeNatively(element, text);
+            }
             logger.info("Entered text '{}' into element: {}", text, element);
         } catch (Exception e) {
             logger.error("Failed to send keys to element: {}", element, e);
@@ -68,6 +221,92 @@ public abstract class BasePage {
         }
     }
     
+    // Real key events, for fields whose scripts react to keystrokes (e.g. autocomplete)
+    protected void typeIntoElementNatively(WebElement element, String text) {
+        try {
+            typeNatively(element, text);
+            logger.info("Typed '{}' into element: {}", text, element);
+        } catch (Exception e) {
+            logger.error("Failed to type into element: {}", element, e);
+            throw e;
+        }
+    }
+    
+    public void selectOptionByText(WebElement selectElement, String optionText) {
+        try {
+            if (!COMPOSITE_ACTIONS || !profiledAction(selectElement, "visible", () -> domWaits.selectWhenActionable(selectElement, optionText))) {
+                waitForElementToBeVisible(selectElement);
+                new Select(selectElement).selectByVisibleText(optionText);
+            }
+            logger.info("Selected option '{}' in element: {}", optionText, selectElement);
+        } catch (Exception e) {
+            logger.error("Failed to select option '{}' in element: {}", optionText, selectElement, e);
+            throw e;
+        }
+    }
+    
+    /**
+     * Fill several fields in the order given with one script call, firing input and change events.
+     * Selects take an option value (or visible text), checkboxes and radios "true" or "false".
+     * Fields the script cannot set are filled natively one by one.
+     */
+    protected void fillForm(List<Map.Entry<WebElement, String>> fields) {
+        if (fields.isEmpty()) {
+            return;
+        }
+        List<WebElement> elements = fields.stream().map(Map.Entry::getKey).collect(Collectors.toList());
+        List<String> texts = fields.stream().map(Map.Entry::getValue).collect(Collectors.toList());
+        waitForElementToBeVisible(elements.get(0));
+        
+        List<Integer> nativeFill = new ArrayList<>();
+        if (COMPOSITE_ACTIONS) {
+            try {
+                Object rejected = ((JavascriptExecutor) driver).executeScript(FILL_FORM_SCRIPT, elements, texts);
+                if (rejected instanceof List<?> indices) {
+                    indices.forEach(index -> nativeFill.add(((Number) index).intValue()));
+                }
+            } catch (StaleElementReferenceException e) {
+                for (int i = 0; i < elements.size(); i++) {
+                    nativeFill.add(i);
+                }
+            }
+        } else {
+            for (int i = 0; i < elements.size(); i++) {
+                nativeFill.add(i);
+            }
+        }
+        for (int index : nativeFill) {
+            fillNatively(elements.get(index), texts.get(index));
+        }
+        logger.info("Filled {} form field(s), {} natively", elements.size(), nativeFill.size());
+    }
+    
+    private void fillNatively(WebElement element, String value) {
+        waitForElementToBeVisible(element);
+        String type = element.getAttribute("type");
+        if ("select".equalsIgnoreCase(element.getTagName())) {
+            Select select = new Select(element);
+            if (select.getOptions().stream().anyMatch(option -> value.equals(option.getAttribute("value")))) {
+                select.selectByValue(value);
+            } else {
+                select.selectByVisibleText(value);
+            }
+        } else if ("checkbox".equalsIgnoreCase(type) || "radio".equalsIgnoreCase(type)) {
+            if (element.isSelected() != Boolean.parseBoolean(value)) {
+                element.click();
+            }
+        } else {
+            element.clear();
+            element.sendKeys(value);
+        }
+    }
+    
+    private void typeNatively(WebElement element, String text) {
+        waitForElementToBeVisible(element);
+        element.clear();
+        element.sendKeys(text);
+    }
+    
     public String getElementText(WebElement element) {
         try {
             waitForElementToBeVisible(element);
@@ -80,6 +319,31 @@ public abstract class BasePage {
         }
     }
     
+    // Batched reads: one script call for a whole list instead of a wait plus getText per element.
+    // Found elements are present by definition; hidden ones (collapsed menus, carousel items) are read
+    // as they are and the script reports their visibility rather than waiting for it.
+    protected List<ElementState> readElements(List<WebElement> elements, String... attributes) {
+        List<WebElement> present = new ArrayList<>(elements);
+        if (present.isEmpty()) {
+            return List.of();
+        }
+        List<?> states = (List<?>) ((JavascriptExecutor) driver).executeScript(READ_ELEMENTS_SCRIPT, present, List.of(attributes));
+        List<ElementState> result = new ArrayList<>();
+        for (Object state : states) {
+            Map<?, ?> values = (Map<?, ?>) state;
+            Map<String, String> attributeValues = new HashMap<>();
+            ((Map<?, ?>) values.get("attributes")).forEach((name, value) ->
+                    attributeValues.put(String.valueOf(name), value != null ? value.toString() : null));
+            result.add(new ElementState((String) values.get("text"), Boolean.TRUE.equals(values.get("displayed")), attributeValues));
+        }
+        logger.debug("Read {} elements in one call", result.size());
+        return result;
+    }
+    
+    protected List<String> readTexts(List<WebElement> elements) {
+        return readElements(elements).stream().map(ElementState::getText).collect(Collectors.toList());
+    }
+    
     protected boolean isElementDisplayed(WebElement element) {
         try {
             return element.isDisplayed();
@@ -98,9 +362,17 @@ public abstract class BasePage {
     
     // JavaScript executor methods
     protected void scrollToElement(WebElement element) {
+        scrollToElement(element, INSTANT_SCROLL);
+    }
+    
+    // Returns once the element is in the viewport and the scroll has settled; instant skips any smooth scrolling
+    protected void scrollToElement(WebElement element, boolean instant) {
         try {
-            ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView(true);", element);
-            Thread.sleep(500); // Small delay to ensure scroll completes
+            Object inView = ((JavascriptExecutor) driver).executeAsyncScript(SCROLL_SCRIPT, element,
+                    instant ? "instant" : "auto", SCROLL_SETTLE_TIMEOUT.toMillis());
+            if (!Boolean.TRUE.equals(inView)) {
+                logger.debug("Element not in the viewport after scrolling: {}", element);
+            }
         } catch (Exception e) {
             logger.error("Failed to scroll to element: {}", element, e);
         }
@@ -119,7 +391,16 @@ public abstract class BasePage {
     // Navigation methods
     protected void navigateTo(String url) {
         try {
+            boolean returnsImmediately = "none".equals(getPageLoadStrategy());
+            if (returnsImmediately) {
+                // Mark the current document so we can tell when the new one has replaced it
+                ((JavascriptExecutor) driver).executeScript("window.__pendingNavigation = true;");
+            }
             driver.navigate().to(url);
+            if (returnsImmediately) {
+                wait.until(webDriver -> (Boolean) ((JavascriptExecutor) webDriver).executeScript(
+                        "return !window.__pendingNavigation && document.readyState !== 'loading';"));
+            }
             logger.info("Navigated to: {}", url);
         } catch (Exception e) {
             logger.error("Failed to navigate to: {}", url, e);
@@ -150,14 +431,77 @@ public abstract class BasePage {
     // Wait for page load
     protected void waitForPageLoad() {
         try {
-            wait.until(webDriver -> ((JavascriptExecutor) webDriver)
-                    .executeScript("return document.readyState").equals("complete"));
+            waitForPageReady();
         } catch (Exception e) {
             logger.error("Failed to wait for page load", e);
         }
     }
     
-    // Get elements by locator
+    // Page readiness: override to list the elements this page needs before steps can interact with it
+    protected List<WebElement> getReadinessElements() {
+        return List.of();
+    }
+    
+    protected void waitForPageReady() {
+        String strategy = getPageLoadStrategy();
+        if ("normal".equals(strategy)) {
+            waitForDocumentState("complete");
+            return;
+        }
+        
+        waitForDocumentState("interactive");
+        getReadinessElements().forEach(this::waitForElementToBeVisible);
+        if ("none".equals(strategy)) {
+            waitForNetworkIdle();
+        }
+    }
+    
+    protected void waitForDocumentState(String state) {
+        String condition = "complete".equals(state)
+                ? "return document.readyState === 'complete';"
+                : "return document.readyState !== 'loading';";
+        wait.until(webDriver -> (Boolean) ((JavascriptExecutor) webDriver).executeScript(condition));
+    }
+    
+    // Resolves once no request has been in flight for the configured quiet window
+    protected void waitForNetworkIdle() {
+        waitForNetworkIdle(NETWORK_QUIET_WINDOW);
+    }
+    
+    protected void waitForNetworkIdle(Duration quietWindow) {
+        NetworkActivityTracker tracker = NetworkActivityTracker.forDriver(driver);
+        if (tracker != null) {
+            tracker.awaitIdle(quietWindow, WAIT_TIMEOUT);
+        } else {
+            waitForNetworkQuiet(quietWindow);
+        }
+    }
+    
+    // Resolves once no new resource has finished loading for the given window, in a single script call;
+    // the fallback for browsers whose in-flight requests cannot be observed
+    protected void waitForNetworkQuiet(Duration quietWindow) {
+        ((JavascriptExecutor) driver).executeAsyncScript(
+                "var quietMs = arguments[0], done = arguments[arguments.length - 1];" +
+                "var last = performance.getEntriesByType('resource').length, since = Date.now();" +
+                "(function check() {" +
+                "  var count = performance.getEntriesByType('resource').length;" +
+                "  if (count !== last) { last = count; since = Date.now(); }" +
+                "  if (Date.now() - since >= quietMs) { done(true); } else { setTimeout(check, 50); }" +
+                "})();",
+                quietWindow.toMillis());
+    }
+    
+    protected String getPageLoadStrategy() {
+        if (driver instanceof HasCapabilities hasCapabilities) {
+            Object strategy = hasCapabilities.getCapabilities().getCapability("pageLoadStrategy");
+            if (strategy != null) {
+                return strategy.toString().toLowerCase();
+            }
+        }
+        return "normal";
+    }
+    
+    // Get elements by locator: these wait (implicitly) for elements that must appear
     protected WebElement findElement(By locator) {
         return driver.findElement(locator);
     }
@@ -166,6 +510,33 @@ public abstract class BasePage {
         return driver.findElements(locator);
     }
     
+    // Presence checks: look at the page as it is now in one script call, so an absent element costs
+    // no implicit wait and the session's timeouts are never touched
+    @SuppressWarnings("unchecked")
+    protected List<WebElement> findElementsNow(By locator) {
+        if (!(locator instanceof By.Remotable remotable)) {
+            // Composite locators (ByIdOrName, ByChained) resolve through the driver and its implicit wait
+            return driver.findElements(locator);
+        }
+        By.Remotable.Parameters parameters = remotable.getRemoteParameters();
+        Object found = ((JavascriptExecutor) driver).executeScript(FIND_NOW_SCRIPT, parameters.using(), parameters.value());
+        return found instanceof List<?> elements ? (List<WebElement>) elements : List.of();
+    }
+    
+    protected boolean isElementPresentNow(By locator) {
+        return !findElementsNow(locator).isEmpty();
+    }
+    
+    // For content that shows up asynchronously: polls the page directly for at most the given time
+    protected boolean isElementPresentWithin(By locator, Duration timeout) {
+        try {
+            new WebDriverWait(driver, timeout).until(webDriver -> isElementPresentNow(locator));
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        }
+    }
+    
     // Refresh page
     protected void refreshPage() {
         driver.navigate().refresh();
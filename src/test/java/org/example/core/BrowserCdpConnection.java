@@ -0,0 +1,147 @@
+package org.example.core;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.WebSocket;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Minimal DevTools protocol client bound to the browser target (not a page)
+ * Needed for browser-wide commands such as creating and disposing browser contexts
+ */
+class BrowserCdpConnection implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(BrowserCdpConnection.class);
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final Duration COMMAND_TIMEOUT = Duration.ofSeconds(30);
+
+    private final AtomicInteger nextId = new AtomicInteger();
+    private final Map<Integer, CompletableFuture<JsonNode>> pendingCommands = new ConcurrentHashMap<>();
+    private final WebSocket webSocket;
+    private volatile boolean open = true;
+
+    private BrowserCdpConnection(URI webSocketUrl) {
+        this.webSocket = HttpClient.newHttpClient().newWebSocketBuilder()
+                .buildAsync(webSocketUrl, new Listener())
+                .join();
+    }
+
+    /**
+     * Connect to the browser endpoint behind a debugger address such as localhost:9222
+     */
+    static BrowserCdpConnection connect(String debuggerAddress) {
+        try {
+            HttpResponse<String> response = HttpClient.newHttpClient().send(
+                    HttpRequest.newBuilder(URI.create("http://" + debuggerAddress + "/json/version")).GET().build(),
+                    HttpResponse.BodyHandlers.ofString());
+            String webSocketUrl = objectMapper.readTree(response.body()).get("webSocketDebuggerUrl").asText();
+            return new BrowserCdpConnection(URI.create(webSocketUrl));
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not reach DevTools endpoint at " + debuggerAddress, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while connecting to " + debuggerAddress, e);
+        }
+    }
+
+    /**
+     * Send a command and wait for its result
+     */
+    JsonNode send(String method, Map<String, Object> params) {
+        int id = nextId.incrementAndGet();
+        CompletableFuture<JsonNode> result = new CompletableFuture<>();
+        pendingCommands.put(id, result);
+        try {
+            String message = objectMapper.writeValueAsString(Map.of("id", id, "method", method, "params", params));
+            // A WebSocket takes one outgoing message at a time, and scenarios share this connection
+            synchronized (webSocket) {
+                webSocket.sendText(message, true).join();
+            }
+            return result.get(COMMAND_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (IOException | ExecutionException | TimeoutException e) {
+            throw new IllegalStateException("DevTools command failed: " + method, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while sending " + method, e);
+        } finally {
+            pendingCommands.remove(id);
+        }
+    }
+
+    boolean isOpen() {
+        return open;
+    }
+
+    @Override
+    public void close() {
+        open = false;
+        webSocket.sendClose(WebSocket.NORMAL_CLOSURE, "").exceptionally(e -> null);
+    }
+
+    private class Listener implements WebSocket.Listener {
+
+        private final StringBuilder buffer = new StringBuilder();
+
+        @Override
+        public CompletionStage<?> onText(WebSocket socket, CharSequence data, boolean last) {
+            buffer.append(data);
+            if (last) {
+                handleMessage(buffer.toString());
+                buffer.setLength(0);
+            }
+            socket.request(1);
+            return null;
+        }
+
+        @Override
+        public CompletionStage<?> onClose(WebSocket socket, int statusCode, String reason) {
+            open = false;
+            pendingCommands.values().forEach(pending ->
+                    pending.completeExceptionally(new IllegalStateException("DevTools connection closed: " + reason)));
+            return null;
+        }
+
+        @Override
+        public void onError(WebSocket socket, Throwable error) {
+            open = false;
+            logger.warn("DevTools connection failed", error);
+            pendingCommands.values().forEach(pending -> pending.completeExceptionally(error));
+        }
+
+        private void handleMessage(String message) {
+            try {
+                JsonNode json = objectMapper.readTree(message);
+                if (!json.has("id")) {
+                    return; // Events are not needed by callers of this client
+                }
+                CompletableFuture<JsonNode> pending = pendingCommands.get(json.get("id").asInt());
+                if (pending == null) {
+                    return;
+                }
+                if (json.has("error")) {
+                    pending.completeExceptionally(new IllegalStateException(json.get("error").toString()));
+                } else {
+                    pending.complete(json.get("result"));
+                }
+            } catch (IOException e) {
+                logger.warn("Could not parse DevTools message", e);
+            }
+        }
+    }
+}
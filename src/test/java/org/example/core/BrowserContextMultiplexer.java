@@ -0,0 +1,181 @@
+package org.example.core;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Runs many isolated browser contexts inside a single Chromium process
+ * Each context has its own cookies and storage and is exposed as an independent driver handle,
+ * so parallel scenarios no longer need one browser process each
+ */
+public class BrowserContextMultiplexer {
+
+    private static final Logger logger = LoggerFactory.getLogger(BrowserContextMultiplexer.class);
+    private static final Map<String, BrowserContextMultiplexer> multiplexers = new ConcurrentHashMap<>();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> multiplexers.values().forEach(BrowserContextMultiplexer::shutdown)));
+    }
+
+    private final String browserType;
+    private final Map<WebDriver, ContextHandle> contexts = new ConcurrentHashMap<>();
+    private WebDriver hostDriver;
+    private volatile BrowserCdpConnection browserConnection;
+    private String debuggerAddress;
+
+    private record ContextHandle(String contextId, String firstTargetId) {
+    }
+
+    private BrowserContextMultiplexer(String browserType) {
+        this.browserType = browserType;
+    }
+
+    public static BrowserContextMultiplexer forBrowser(String browserType) {
+        return multiplexers.computeIfAbsent(browserType.toLowerCase(), BrowserContextMultiplexer::new);
+    }
+
+    /**
+     * Open a fresh browser context and return a driver handle focused on it
+     */
+    public WebDriver openContext() {
+        BrowserCdpConnection connection = ensureHostBrowser();
+        String contextId = connection.send("Target.createBrowserContext", Map.of("disposeOnDetach", false))
+                .get("browserContextId").asText();
+        JsonNode target = connection.send("Target.createTarget",
+                Map.of("url", "about:blank", "browserContextId", contextId));
+        String targetId = target.get("targetId").asText();
+        try {
+            // Chromium driver window handles are DevTools target ids
+            WebDriver contextDriver = DriverFactory.createAttachedDriver(browserType, debuggerAddress, targetId);
+            contexts.put(contextDriver, new ContextHandle(contextId, targetId));
+            logger.info("Opened browser context {} ({} active)", contextId, contexts.size());
+            return contextDriver;
+        } catch (RuntimeException e) {
+            disposeContext(contextId);
+            throw e;
+        }
+    }
+
+    /**
+     * Close a driver handle obtained from {@link #openContext()} and throw away its context
+     */
+    public void closeContext(WebDriver contextDriver) {
+        ContextHandle context = contexts.remove(contextDriver);
+        try {
+            // Attached sessions detach on quit and leave the shared browser running
+            contextDriver.quit();
+        } catch (Exception e) {
+            logger.debug("Ignoring failure while quitting context driver", e);
+        }
+        if (context != null) {
+            disposeContext(context.contextId());
+        }
+    }
+
+    public int activeContexts() {
+        return contexts.size();
+    }
+
+    /**
+     * Window handles of a driver, limited to its own browser context when it came from {@link #openContext()}.
+     * A driver attached to the shared browser lists every tab in it, including other scenarios' tabs.
+     * The context's first tab comes first, the way a driver's original window does.
+     */
+    public static Set<String> windowHandles(WebDriver driver) {
+        for (BrowserContextMultiplexer multiplexer : multiplexers.values()) {
+            ContextHandle context = multiplexer.contexts.get(driver);
+            if (context != null) {
+                return multiplexer.contextTargets(context);
+            }
+        }
+        return driver.getWindowHandles();
+    }
+
+    /**
+     * Close every context and the shared browser
+     */
+    public synchronized void shutdown() {
+        contexts.keySet().forEach(this::closeContext);
+        if (browserConnection != null) {
+            browserConnection.close();
+            browserConnection = null;
+        }
+        if (hostDriver != null) {
+            try {
+                hostDriver.quit();
+            } catch (Exception e) {
+                logger.debug("Ignoring failure while quitting host browser", e);
+            }
+            hostDriver = null;
+        }
+    }
+
+    private synchronized BrowserCdpConnection ensureHostBrowser() {
+        if (browserConnection != null && browserConnection.isOpen()) {
+            return browserConnection;
+        }
+        if (hostDriver != null) {
+            logger.warn("Shared {} browser connection lost, starting a new host browser", browserType);
+            try {
+                hostDriver.quit();
+            } catch (Exception e) {
+                logger.debug("Ignoring failure while quitting host browser", e);
+            }
+        }
+
+        hostDriver = DriverFactory.createDriver(browserType);
+        debuggerAddress = readDebuggerAddress(hostDriver);
+        browserConnection = BrowserCdpConnection.connect(debuggerAddress);
+        logger.info("Started shared {} browser for contexts at {}", browserType, debuggerAddress);
+        return browserConnection;
+    }
+
+    private Set<String> contextTargets(ContextHandle context) {
+        BrowserCdpConnection connection = browserConnection;
+        if (connection == null || !connection.isOpen()) {
+            throw new IllegalStateException("Shared " + browserType + " browser is gone, its contexts went with it");
+        }
+        JsonNode targetInfos = connection.send("Target.getTargets", Map.of()).get("targetInfos");
+        List<String> handles = new ArrayList<>();
+        for (JsonNode targetInfo : targetInfos) {
+            if ("page".equals(targetInfo.path("type").asText())
+                    && context.contextId().equals(targetInfo.path("browserContextId").asText())) {
+                handles.add(targetInfo.get("targetId").asText());
+            }
+        }
+        if (handles.remove(context.firstTargetId())) {
+            handles.add(0, context.firstTargetId());
+        }
+        return new LinkedHashSet<>(handles);
+    }
+
+    private synchronized void disposeContext(String contextId) {
+        if (browserConnection == null || !browserConnection.isOpen()) {
+            return; // The context went away together with the browser
+        }
+        try {
+            browserConnection.send("Target.disposeBrowserContext", Map.of("browserContextId", contextId));
+        } catch (Exception e) {
+            logger.warn("Could not dispose browser context {}", contextId, e);
+        }
+    }
+
+    private String readDebuggerAddress(WebDriver driver) {
+        String optionsCapability = "edge".equalsIgnoreCase(browserType) ? "ms:edgeOptions" : "goog:chromeOptions";
+        Object browserOptions = ((HasCapabilities) driver).getCapabilities().getCapability(optionsCapability);
+        if (browserOptions instanceof Map<?, ?> options && options.get("debuggerAddress") != null) {
+            return options.get("debuggerAddress").toString();
+        }
+        throw new IllegalStateException("Browser did not report a debugger address: " + browserType);
+    }
+}
@@ -0,0 +1,125 @@
+package org.example.core;
+
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Finds the local OS processes behind a browser session and reads their resource usage from /proc
+ * Browsers are matched by the profile directory the driver reports, so concurrent sessions are told apart
+ */
+final class BrowserProcessInspector {
+
+    private static final Logger logger = LoggerFactory.getLogger(BrowserProcessInspector.class);
+    private static final Path PROC = Paths.get("/proc");
+    private static final long CLOCK_TICKS_PER_SECOND = 100;
+    private static final long PAGE_SIZE_BYTES = 4096;
+
+    private BrowserProcessInspector() {
+    }
+
+    /**
+     * Resource usage summed over a set of processes
+     */
+    static final class ProcessSample {
+        final long rssBytes;
+        final double cpuSeconds;
+        final int processCount;
+
+        ProcessSample(long rssBytes, double cpuSeconds, int processCount) {
+            this.rssBytes = rssBytes;
+            this.cpuSeconds = cpuSeconds;
+            this.processCount = processCount;
+        }
+    }
+
+    static boolean isSupported() {
+        return Files.isDirectory(PROC);
+    }
+
+    /**
+     * Pids of the browser processes of a session, including renderer and helper children.
+     * Empty for remote sessions or when the profile directory is not reported.
+     */
+    static Set<Long> findBrowserPids(WebDriver driver) {
+        String profileDir = profileDirectory(driver);
+        if (profileDir == null || !isSupported()) {
+            return Set.of();
+        }
+        Set<Long> pids = new LinkedHashSet<>();
+        try (Stream<Path> entries = Files.list(PROC)) {
+            entries.map(path -> path.getFileName().toString())
+                    .filter(name -> name.chars().allMatch(Character::isDigit))
+                    .map(Long::parseLong)
+                    .filter(pid -> readCommandLine(pid).contains(profileDir))
+                    .forEach(pid -> {
+                        pids.add(pid);
+                        ProcessHandle.of(pid).ifPresent(process ->
+                                process.descendants().forEach(child -> pids.add(child.pid())));
+                    });
+        } catch (IOException e) {
+            logger.debug("Could not list processes", e);
+        }
+        return pids;
+    }
+
+    /**
+     * Sum resident memory and consumed CPU time of the given processes; vanished processes are skipped
+     */
+    static ProcessSample sample(Collection<Long> pids) {
+        long rssBytes = 0;
+        double cpuSeconds = 0;
+        int processCount = 0;
+        for (long pid : pids) {
+            try {
+                String stat = Files.readString(PROC.resolve(pid + "/stat"));
+                // Fields after the parenthesised command name; utime and stime are fields 14 and 15
+                String[] fields = stat.substring(stat.lastIndexOf(')') + 2).split(" ");
+                cpuSeconds += (Long.parseLong(fields[11]) + Long.parseLong(fields[12])) / (double) CLOCK_TICKS_PER_SECOND;
+                String[] statm = Files.readString(PROC.resolve(pid + "/statm")).trim().split(" ");
+                rssBytes += Long.parseLong(statm[1]) * PAGE_SIZE_BYTES;
+                processCount++;
+            } catch (IOException | RuntimeException e) {
+                logger.trace("Process {} is gone", pid);
+            }
+        }
+        return new ProcessSample(rssBytes, cpuSeconds, processCount);
+    }
+
+    private static String readCommandLine(long pid) {
+        try {
+            return new String(Files.readAllBytes(PROC.resolve(pid + "/cmdline")), StandardCharsets.UTF_8).replace('\0', ' ');
+        } catch (IOException e) {
+            return "";
+        }
+    }
+
+    private static String profileDirectory(WebDriver driver) {
+        if (!(driver instanceof HasCapabilities hasCapabilities)) {
+            return null;
+        }
+        Capabilities capabilities = hasCapabilities.getCapabilities();
+        for (String vendorCapability : List.of("chrome", "msedge")) {
+            if (capabilities.getCapability(vendorCapability) instanceof Map<?, ?> vendorInfo
+                    && vendorInfo.get("userDataDir") != null) {
+                return vendorInfo.get("userDataDir").toString();
+            }
+        }
+        Object firefoxProfile = capabilities.getCapability("moz:profile");
+        return firefoxProfile != null ? firefoxProfile.toString() : null;
+    }
+}
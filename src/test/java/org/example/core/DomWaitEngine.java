@@ -0,0 +1,197 @@
+package org.example.core;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.UnhandledAlertException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Properties;
+
+/**
+ * Waits for element conditions inside the page with a MutationObserver
+ * One async script call resolves as soon as the condition holds, instead of one driver command per poll
+ */
+public class DomWaitEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(DomWaitEngine.class);
+    private static final Properties config = TestConfig.properties();
+    private static final boolean ENABLED = "observer".equalsIgnoreCase(config.getProperty("wait.engine", "observer"));
+
+    // Leaves the driver time to return the result before its own script timeout fires
+    private static final Duration SCRIPT_TIMEOUT_MARGIN = Duration.ofMillis(500);
+    // The factory sets the script timeout on every session, so it is not read back on each wait
+    private static final Duration MAX_SLICE = DriverFactory.getScriptTimeout().minus(SCRIPT_TIMEOUT_MARGIN);
+
+    // In-page approximation of WebElement.isDisplayed, shared with the batched element reads in BasePage
+    static final String DISPLAYED_FUNCTION =
+            "function displayed(e) {" +
+            "  if (!e.isConnected) { return false; }" +
+            "  for (var n = e; n; n = n.parentElement) { if (getComputedStyle(n).display === 'none') { return false; } }" +
+            "  var s = getComputedStyle(e);" +
+            "  if (s.visibility === 'hidden' || s.visibility === 'collapse' || Number(s.opacity) === 0) { return false; }" +
+            "  var r = e.getBoundingClientRect(); return r.width > 0 && r.height > 0;" +
+            "}";
+
+    // Value setter of plain text fields (null for anything else), shared with the bulk form fill in BasePage
+    static final String TEXT_FIELD_FUNCTION =
+            "function textFieldPrototype(e) {" +
+            "  if (e instanceof HTMLTextAreaElement) { return HTMLTextAreaElement.prototype; }" +
+            "  var types = ['text', 'email', 'password', 'search', 'tel', 'url', 'number'];" +
+            "  return e instanceof HTMLInputElement && types.indexOf(e.type) >= 0 ? HTMLInputElement.prototype : null;" +
+            "}";
+
+    // Style-only changes (e.g. :hover menus) trigger no mutation, so a cheap in-page poll backs up the observer
+    private static final String WAIT_SCRIPT =
+            "var el = arguments[0], condition = arguments[1], text = arguments[2], timeoutMs = arguments[3];" +
+            "var done = arguments[arguments.length - 1];" +
+            DISPLAYED_FUNCTION +
+            TEXT_FIELD_FUNCTION +
+            "function optionByText() {" +
+            "  var options = el.options || [];" +
+            "  for (var i = 0; i < options.length; i++) { if (options[i].text.replace(/\\s+/g, ' ').trim() === text) { return options[i]; } }" +
+            "  return null;" +
+            "}" +
+            "function holds() {" +
+            "  if (condition === 'visible') { return displayed(el); }" +
+            "  if (condition === 'clickable' || condition === 'click') { return displayed(el) && !el.disabled; }" +
+            "  if (condition === 'type') { return displayed(el) && !el.disabled && !el.readOnly; }" +
+            "  if (condition === 'select') { return displayed(el) && !el.disabled && optionByText() !== null; }" +
+            "  return (el.innerText || el.textContent || '').indexOf(text) >= 0;" +
+            "}" +
+            // Actions run in the same call once the element is actionable; anything unusual is left to the native path
+            "function act() {" +
+            "  if (condition === 'click') {" +
+            "    el.scrollIntoView({ block: 'center', inline: 'center' });" +
+            "    var r = el.getBoundingClientRect(), hit = document.elementFromPoint(r.left + r.width / 2, r.top + r.height / 2);" +
+            "    if (!hit || !el.contains(hit)) { return 'covered'; }" +
+            "    el.click(); return 'met';" +
+            "  }" +
+            "  if (condition === 'type') {" +
+            "    var proto = textFieldPrototype(el);" +
+            "    if (!proto) { return 'unsupported'; }" +
+            "    el.focus(); Object.getOwnPropertyDescriptor(proto, 'value').set.call(el, text);" +
+            "  } else if (condition === 'select') {" +
+            "    optionByText().selected = true;" +
+            "  } else { return 'met'; }" +
+            "  el.dispatchEvent(new Event('input', { bubbles: true }));" +
+            "  el.dispatchEvent(new Event('change', { bubbles: true }));" +
+            "  return 'met';" +
+            "}" +
+            "var finished = false, observer, poll, timer;" +
+            "function finish(result) {" +
+            "  if (finished) { return; } finished = true;" +
+            "  if (observer) { observer.disconnect(); } clearInterval(poll); clearTimeout(timer);" +
+            "  done(result);" +
+            "}" +
+            "function check() {" +
+            "  if (!el.isConnected) { finish('detached'); } else if (holds()) { finish(act()); }" +
+            "}" +
+            "check();" +
+            "if (!finished) {" +
+            "  observer = new MutationObserver(check);" +
+            "  observer.observe(document.documentElement, { childList: true, subtree: true, attributes: true, characterData: true });" +
+            "  poll = setInterval(check, 100);" +
+            "  timer = setTimeout(function () { finish('timeout'); }, timeoutMs);" +
+            "}";
+
+    private final WebDriver driver;
+    private final Duration timeout;
+
+    public DomWaitEngine(WebDriver driver, Duration timeout) {
+        this.driver = driver;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Wait until the element is displayed; false means the engine could not run and the caller should poll instead
+     */
+    public boolean awaitVisible(WebElement element) {
+        return await(element, "visible", "");
+    }
+
+    /**
+     * Wait until the element is displayed and enabled; false means the caller should poll instead
+     */
+    public boolean awaitClickable(WebElement element) {
+        return await(element, "clickable", "");
+    }
+
+    /**
+     * Wait until the element's text contains the given text; false means the caller should poll instead
+     */
+    public boolean awaitText(WebElement element, String text) {
+        return await(element, "text", text);
+    }
+
+    /**
+     * Wait until the element is clickable and click it in the page; false means the caller should click natively
+     */
+    public boolean clickWhenActionable(WebElement element) {
+        return await(element, "click", "");
+    }
+
+    /**
+     * Wait until the text field is editable and replace its value, firing input and change events;
+     * false means the caller should type natively
+     */
+    public boolean typeWhenActionable(WebElement element, String text) {
+        return await(element, "type", text);
+    }
+
+    /**
+     * Wait until the select offers an option with the given visible text and select it;
+     * false means the caller should select natively
+     */
+    public boolean selectWhenActionable(WebElement element, String optionText) {
+        return await(element, "select", optionText);
+    }
+
+    private boolean await(WebElement element, String condition, String text) {
+        if (!ENABLED || !(driver instanceof JavascriptExecutor js)) {
+            return false;
+        }
+        if (MAX_SLICE.isNegative() || MAX_SLICE.isZero()) {
+            return false;
+        }
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (true) {
+            long remainingMs = (deadline - System.nanoTime()) / 1_000_000;
+            if (remainingMs <= 0) {
+                String expectation = switch (condition) {
+                    case "click", "type", "select" -> "actionable to " + condition;
+                    default -> condition;
+                };
+                throw new TimeoutException("Expected condition failed: waiting for element to be " + expectation
+                        + (text.isEmpty() ? "" : " '" + text + "'") + " (tried for " + timeout.toSeconds() + " second(s))");
+            }
+            Object result;
+            try {
+                // A cached PageFactory element may have gone stale; the polling fallback resolves it again
+                result = js.executeAsyncScript(WAIT_SCRIPT, element, condition, text, Math.min(remainingMs, MAX_SLICE.toMillis()));
+            } catch (NoSuchElementException | StaleElementReferenceException e) {
+                return false;
+            } catch (UnhandledAlertException e) {
+                // Only an action can open an alert, so it has already been performed
+                return true;
+            } catch (WebDriverException e) {
+                logger.debug("In-page wait unavailable, falling back to polling", e);
+                return false;
+            }
+            if ("met".equals(result)) {
+                return true;
+            }
+            if (!"timeout".equals(result) && !"detached".equals(result)) {
+                // 'covered' or 'unsupported': the element is ready but the action needs a real input event
+                return false;
+            }
+            // 'timeout' ends a slice, 'detached' means the page replaced the node; either way look again
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package org.example.core;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves driver binaries once per browser per JVM
+ * Resolved paths are kept in an on-disk manifest so later runs skip WebDriverManager entirely
+ */
+public final class DriverBinaryResolver {
+
+    private static final Logger logger = LoggerFactory.getLogger(DriverBinaryResolver.class);
+
+    private static final Map<String, String> resolvedPaths = new ConcurrentHashMap<>();
+
+    private DriverBinaryResolver() {
+    }
+
+    /**
+     * Make sure the driver binary for the browser is resolved and registered with Selenium
+     */
+    public static void resolve(String browserType, Path manifestPath) {
+        String browser = browserType.toLowerCase();
+        resolvedPaths.computeIfAbsent(browser, key -> {
+            String driverPath = readManifest(manifestPath, key);
+            if (driverPath != null && Files.isExecutable(Paths.get(driverPath))) {
+                logger.info("Using {} driver from manifest: {}", key, driverPath);
+            } else {
+                driverPath = resolveWithWebDriverManager(key);
+                writeManifest(manifestPath, key, driverPath);
+            }
+            System.setProperty(driverSystemProperty(key), driverPath);
+            return driverPath;
+        });
+    }
+
+    /**
+     * Forget a resolved binary, e.g. after the browser was upgraded and the driver no longer matches
+     */
+    public static void invalidate(String browserType, Path manifestPath) {
+        String browser = browserType.toLowerCase();
+        resolvedPaths.remove(browser);
+        System.clearProperty(driverSystemProperty(browser));
+        synchronized (DriverBinaryResolver.class) {
+            Properties manifest = loadManifest(manifestPath);
+            if (manifest.remove(browser + ".path") != null) {
+                storeManifest(manifestPath, manifest);
+            }
+        }
+        logger.info("Invalidated cached {} driver", browser);
+    }
+
+    private static String resolveWithWebDriverManager(String browser) {
+        WebDriverManager manager = switch (browser) {
+            case "chrome" -> WebDriverManager.chromedriver();
+            case "firefox" -> WebDriverManager.firefoxdriver();
+            case "edge" -> WebDriverManager.edgedriver();
+            default -> throw new IllegalArgumentException("Unsupported browser: " + browser);
+        };
+        long start = System.currentTimeMillis();
+        manager.setup();
+        logger.info("Resolved {} driver {} in {} ms", browser, manager.getDownloadedDriverVersion(),
+                System.currentTimeMillis() - start);
+        return manager.getDownloadedDriverPath();
+    }
+
+    private static String driverSystemProperty(String browser) {
+        return switch (browser) {
+            case "chrome" -> "webdriver.chrome.driver";
+            case "firefox" -> "webdriver.gecko.driver";
+            case "edge" -> "webdriver.edge.driver";
+            default -> throw new IllegalArgumentException("Unsupported browser: " + browser);
+        };
+    }
+
+    private static String readManifest(Path manifestPath, String browser) {
+        synchronized (DriverBinaryResolver.class) {
+            return loadManifest(manifestPath).getProperty(browser + ".path");
+        }
+    }
+
+    private static void writeManifest(Path manifestPath, String browser, String driverPath) {
+        synchronized (DriverBinaryResolver.class) {
+            Properties manifest = loadManifest(manifestPath);
+            manifest.setProperty(browser + ".path", driverPath);
+            storeManifest(manifestPath, manifest);
+        }
+    }
+
+    private static Properties loadManifest(Path manifestPath) {
+        Properties manifest = new Properties();
+        if (Files.exists(manifestPath)) {
+            try (InputStream in = Files.newInputStream(manifestPath)) {
+                manifest.load(in);
+            } catch (IOException e) {
+                logger.warn("Could not read driver manifest: {}", manifestPath, e);
+            }
+        }
+        return manifest;
+    }
+
+    private static void storeManifest(Path manifestPath, Properties manifest) {
+        try {
+            Path parent = manifestPath.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            // Write to a temp file first so a concurrent run never reads a half-written manifest
+            Path tempFile = Files.createTempFile(parent, "driver-manifest", ".tmp");
+            try (OutputStream out = Files.newOutputStream(tempFile)) {
+                manifest.store(out, "Resolved WebDriver binaries");
+            }
+            Files.move(tempFile, manifestPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.warn("Could not write driver manifest: {}", manifestPath, e);
+        }
+    }
+}
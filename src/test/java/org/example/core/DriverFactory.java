@@ -0,0 +1,347 @@
+package org.example.core;
+
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.SessionNotCreatedException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.edge.EdgeDriver;
+import org.openqa.selenium.edge.EdgeOptions;
+import org.openqa.selenium.firefox.FirefoxDriver;
+import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.remote.Augmenter;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+/**
+ * Creates configured WebDriver sessions and pre-warms spares in the background
+ * so scenarios pick up an already running browser instead of launching one
+ */
+public final class DriverFactory {
+
+    private static final Logger logger = LoggerFactory.getLogger(DriverFactory.class);
+    private static final Properties config = TestConfig.properties();
+
+    private static final int SPARE_SESSIONS = Integer.parseInt(config.getProperty("driver.prewarm.spares", "1"));
+    // Spares count against the same bound as the sessions scenarios hold, so pre-warming never adds browsers
+    private static final int MAX_SESSIONS = Integer.parseInt(
+            config.getProperty("driver.pool.size", config.getProperty("parallel.threads", "2")));
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(60);
+    private static final Pattern VERSION_MISMATCH = Pattern.compile("only supports .*version", Pattern.CASE_INSENSITIVE);
+    private static final Duration IMPLICIT_WAIT = Duration.ofSeconds(Integer.parseInt(config.getProperty("implicit.wait", "10")));
+    private static final Duration SCRIPT_TIMEOUT = Duration.ofSeconds(Integer.parseInt(config.getProperty("script.timeout", "30")));
+    private static final NetworkBlockingProfile networkProfile = NetworkBlockingProfile.fromConfig(config);
+    private static final PageLoadStrategy PAGE_LOAD_STRATEGY =
+            PageLoadStrategy.fromString(config.getProperty("page.load.strategy", "normal").toLowerCase());
+
+    private static final Map<String, BlockingQueue<CompletableFuture<WebDriver>>> warmDrivers = new ConcurrentHashMap<>();
+    private static final Map<String, Set<WebDriver>> obtainedDrivers = new ConcurrentHashMap<>();
+    private static volatile boolean shuttingDown;
+    private static final AtomicInteger warmerThreadCount = new AtomicInteger();
+    private static final ExecutorService warmer = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "driver-warmer-" + warmerThreadCount.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    static {
+        // Clear out browsers a killed run left behind before starting any of our own
+        SessionRegistry.reapOrphans(getSessionRegistryDir());
+        Runtime.getRuntime().addShutdownHook(new Thread(DriverFactory::shutdown));
+    }
+
+    private DriverFactory() {
+    }
+
+    /**
+     * Browser configured for scenarios that do not ask for a specific one
+     */
+    public static String getDefaultBrowser() {
+        return config.getProperty("browser", "chrome");
+    }
+
+    /**
+     * Start launching browser sessions in the background, e.g. one per parallel slot.
+     * Spares plus obtained sessions still running never exceed driver.pool.size.
+     */
+    public static void prewarm(String browserType, int sessions) {
+        if (shuttingDown || !Boolean.parseBoolean(config.getProperty("driver.prewarm.enabled", "true"))
+                || !"local".equalsIgnoreCase(config.getProperty("driver.mode", "local"))) {
+            return;
+        }
+        BlockingQueue<CompletableFuture<WebDriver>> queue = warmQueue(browserType);
+        int missing;
+        synchronized (queue) {
+            missing = Math.min(sessions - queue.size(), MAX_SESSIONS - runningSessions(browserType) - queue.size());
+            for (int i = 0; i < missing; i++) {
+                queue.offer(CompletableFuture.supplyAsync(() -> createDriver(browserType), warmer));
+            }
+        }
+        if (missing > 0) {
+            logger.info("Pre-warming {} {} session(s) in the background", missing, browserType);
+        }
+    }
+
+    /**
+     * Take a pre-warmed session if one is ready or in flight, otherwise create one now.
+     * Taking a session schedules a replacement so the configured number of spares stays ready
+     * while the session bound allows it.
+     */
+    public static WebDriver obtain(String browserType) {
+        CompletableFuture<WebDriver> warmDriver = warmQueue(browserType).poll();
+        WebDriver driver = null;
+        if (warmDriver != null) {
+            try {
+                driver = warmDriver.join();
+            } catch (CompletionException e) {
+                logger.warn("Pre-warmed {} session failed to start, creating one directly", browserType, e.getCause());
+            }
+        }
+        if (driver == null) {
+            driver = createDriver(browserType);
+        }
+        obtainedDrivers.computeIfAbsent(browserType.toLowerCase(), type -> ConcurrentHashMap.newKeySet()).add(driver);
+        prewarm(browserType, SPARE_SESSIONS);
+        return driver;
+    }
+
+    // Obtained sessions that have not been quit yet; quitting a session clears its id
+    private static int runningSessions(String browserType) {
+        Set<WebDriver> drivers = obtainedDrivers.get(browserType.toLowerCase());
+        if (drivers == null) {
+            return 0;
+        }
+        drivers.removeIf(driver -> driver instanceof RemoteWebDriver remote && remote.getSessionId() == null);
+        return drivers.size();
+    }
+
+    /**
+     * Create a configured session synchronously
+     */
+    public static WebDriver createDriver(String browserType) {
+        long start = System.currentTimeMillis();
+        WebDriver driver;
+        try {
+            driver = createBrowserDriver(browserType);
+        } catch (SessionNotCreatedException e) {
+            // Only a cached driver binary that no longer matches an upgraded browser is worth re-resolving;
+            // bad capabilities or a missing or crashed browser fail the same way again
+            if (!isVersionMismatch(e)) {
+                throw e;
+            }
+            logger.warn("Cached {} driver does not match the installed browser, resolving it again", browserType);
+            DriverBinaryResolver.invalidate(browserType, getDriverManifestPath());
+            driver = createBrowserDriver(browserType);
+        }
+        NetworkActivityTracker.attach(driver);
+        configureTimeouts(driver);
+        SessionRegistry.record(driver, getSessionRegistryDir());
+        logger.info("Started {} session in {} ms", browserType, System.currentTimeMillis() - start);
+        return driver;
+    }
+
+    // chromedriver and msedgedriver: "This version of ... only supports ... version N; Current browser version is M"
+    private static boolean isVersionMismatch(SessionNotCreatedException e) {
+        return e.getMessage() != null && VERSION_MISMATCH.matcher(e.getMessage()).find();
+    }
+
+    /**
+     * Create a session attached to an already running Chromium browser and focused on one of its tabs.
+     * Only a driver process is spawned; the browser process is shared.
+     */
+    public static WebDriver createAttachedDriver(String browserType, String debuggerAddress, String windowHandle) {
+        DriverBinaryResolver.resolve(browserType, getDriverManifestPath());
+        WebDriver driver = switch (browserType.toLowerCase()) {
+            case "chrome" -> {
+                ChromeOptions options = new ChromeOptions();
+                options.setPageLoadStrategy(PAGE_LOAD_STRATEGY);
+                options.setExperimentalOption("debuggerAddress", debuggerAddress);
+                yield new ChromeDriver(options);
+            }
+            case "edge" -> {
+                EdgeOptions options = new EdgeOptions();
+                options.setPageLoadStrategy(PAGE_LOAD_STRATEGY);
+                options.setExperimentalOption("debuggerAddress", debuggerAddress);
+                yield new EdgeDriver(options);
+            }
+            default -> throw new IllegalArgumentException("Browser cannot be attached to: " + browserType);
+        };
+        driver.switchTo().window(windowHandle);
+        networkProfile.applyTo(driver);
+        NetworkActivityTracker.attach(driver);
+        configureTimeouts(driver);
+        SessionRegistry.record(driver, getSessionRegistryDir());
+        return driver;
+    }
+
+    /**
+     * Create a session on a Selenium Grid with the same options a local session would get
+     */
+    public static WebDriver createRemoteDriver(String browserType, String hubUrl) {
+        long start = System.currentTimeMillis();
+        Capabilities options = switch (browserType.toLowerCase()) {
+            case "chrome" -> chromeOptions();
+            case "firefox" -> firefoxOptions();
+            case "edge" -> edgeOptions();
+            default -> throw new IllegalArgumentException("Unsupported browser: " + browserType);
+        };
+        RemoteWebDriver remoteDriver;
+        try {
+            remoteDriver = new RemoteWebDriver(URI.create(hubUrl).toURL(), options);
+        } catch (MalformedURLException e) {
+            throw new IllegalArgumentException("Invalid grid URL: " + hubUrl, e);
+        }
+        // Augmenting exposes the grid's DevTools endpoint so network profiles still apply
+        WebDriver driver = new Augmenter().augment(remoteDriver);
+        networkProfile.applyTo(driver);
+        NetworkActivityTracker.attach(driver);
+        configureTimeouts(driver);
+        logger.info("Started remote {} session on {} in {} ms", browserType, hubUrl, System.currentTimeMillis() - start);
+        return driver;
+    }
+
+    /**
+     * Script timeout every session is created with; bounds each in-page wait slice
+     */
+    public static Duration getScriptTimeout() {
+        return SCRIPT_TIMEOUT;
+    }
+
+    private static void configureTimeouts(WebDriver driver) {
+        driver.manage().timeouts().implicitlyWait(IMPLICIT_WAIT);
+        driver.manage().timeouts().scriptTimeout(SCRIPT_TIMEOUT);
+        driver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(Integer.parseInt(config.getProperty("page.load.timeout", "30"))));
+    }
+
+    /**
+     * Stop warming, let sessions still launching finish and quit every spare nobody picked up
+     */
+    public static void shutdown() {
+        shuttingDown = true;
+        warmer.shutdown();
+        try {
+            if (!warmer.awaitTermination(SHUTDOWN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+                logger.warn("Spare sessions still launching after {}, quitting them once they start", SHUTDOWN_TIMEOUT);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        warmDrivers.values().forEach(queue -> {
+            CompletableFuture<WebDriver> warmDriver;
+            while ((warmDriver = queue.poll()) != null) {
+                if (warmDriver.isDone()) {
+                    if (!warmDriver.isCompletedExceptionally()) {
+                        quitQuietly(warmDriver.join());
+                    }
+                } else {
+                    warmDriver.thenAccept(DriverFactory::quitQuietly);
+                }
+            }
+        });
+    }
+
+    private static void quitQuietly(WebDriver driver) {
+        try {
+            driver.quit();
+        } catch (Exception e) {
+            logger.debug("Ignoring failure while quitting spare driver", e);
+        }
+    }
+
+    private static BlockingQueue<CompletableFuture<WebDriver>> warmQueue(String browserType) {
+        return warmDrivers.computeIfAbsent(browserType.toLowerCase(), type -> new LinkedBlockingQueue<>());
+    }
+
+    private static WebDriver createBrowserDriver(String browserType) {
+        return switch (browserType.toLowerCase()) {
+            case "chrome" -> createChromeDriver();
+            case "firefox" -> createFirefoxDriver();
+            case "edge" -> createEdgeDriver();
+            default -> throw new IllegalArgumentException("Unsupported browser: " + browserType);
+        };
+    }
+
+    private static Path getDriverManifestPath() {
+        return Paths.get(config.getProperty("webdriver.manifest.path",
+                System.getProperty("user.home") + "/.cache/selenium/driver-manifest.properties"));
+    }
+
+    private static Path getSessionRegistryDir() {
+        return Paths.get(config.getProperty("session.registry.dir", "target/session-registry"));
+    }
+
+    private static WebDriver createChromeDriver() {
+        DriverBinaryResolver.resolve("chrome", getDriverManifestPath());
+        ChromeDriver chromeDriver = new ChromeDriver(chromeOptions());
+        networkProfile.applyTo(chromeDriver);
+        return chromeDriver;
+    }
+
+    private static WebDriver createFirefoxDriver() {
+        DriverBinaryResolver.resolve("firefox", getDriverManifestPath());
+        return new FirefoxDriver(firefoxOptions());
+    }
+
+    private static WebDriver createEdgeDriver() {
+        DriverBinaryResolver.resolve("edge", getDriverManifestPath());
+        EdgeDriver edgeDriver = new EdgeDriver(edgeOptions());
+        networkProfile.applyTo(edgeDriver);
+        return edgeDriver;
+    }
+
+    private static ChromeOptions chromeOptions() {
+        ChromeOptions options = new ChromeOptions();
+        options.setPageLoadStrategy(PAGE_LOAD_STRATEGY);
+
+        if (Boolean.parseBoolean(config.getProperty("headless", "false"))) {
+            options.addArguments("--headless");
+        }
+
+        options.addArguments("--window-size=" + config.getProperty("window.size", "1920x1080"));
+        options.addArguments("--no-sandbox");
+        options.addArguments("--disable-dev-shm-usage");
+        options.addArguments("--disable-gpu");
+        return options;
+    }
+
+    private static FirefoxOptions firefoxOptions() {
+        FirefoxOptions options = new FirefoxOptions();
+        options.setPageLoadStrategy(PAGE_LOAD_STRATEGY);
+
+        if (Boolean.parseBoolean(config.getProperty("headless", "false"))) {
+            options.addArguments("--headless");
+        }
+        return options;
+    }
+
+    private static EdgeOptions edgeOptions() {
+        EdgeOptions options = new EdgeOptions();
+        options.setPageLoadStrategy(PAGE_LOAD_STRATEGY);
+
+        if (Boolean.parseBoolean(config.getProperty("headless", "false"))) {
+            options.addArguments("--headless");
+        }
+        return options;
+    }
+}
@@ -0,0 +1,165 @@
+package org.example.core;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks memory, CPU, command latency, scenario count and age of long-lived sessions
+ * and decides when a session should be recycled before it starts causing timeouts
+ */
+public class DriverHealthMonitor {
+
+    private static final Logger logger = LoggerFactory.getLogger(DriverHealthMonitor.class);
+    private static final double LATENCY_SMOOTHING = 0.3;
+    private static final int LATENCY_BASELINE_SAMPLES = 3;
+    private static final double LATENCY_NOISE_FLOOR_MS = 50;
+
+    private final boolean enabled;
+    private final long maxRssBytes;
+    private final double maxCpuPercent;
+    private final Duration maxAge;
+    private final int maxScenarios;
+    private final double latencyFactor;
+    private final Map<WebDriver, SessionHealth> sessions = new ConcurrentHashMap<>();
+
+    public DriverHealthMonitor(boolean enabled, long maxRssMb, double maxCpuPercent, Duration maxAge,
+                               int maxScenarios, double latencyFactor) {
+        this.enabled = enabled;
+        this.maxRssBytes = maxRssMb * 1024 * 1024;
+        this.maxCpuPercent = maxCpuPercent;
+        this.maxAge = maxAge;
+        this.maxScenarios = maxScenarios;
+        this.latencyFactor = latencyFactor;
+    }
+
+    /**
+     * Build a monitor from the driver.recycle.* settings; a threshold of 0 disables that check
+     */
+    public static DriverHealthMonitor fromConfig(Properties config) {
+        return new DriverHealthMonitor(
+                Boolean.parseBoolean(config.getProperty("driver.recycle.enabled", "true")),
+                Long.parseLong(config.getProperty("driver.recycle.max.rss.mb", "1500")),
+                Double.parseDouble(config.getProperty("driver.recycle.max.cpu.percent", "0")),
+                Duration.ofMinutes(Long.parseLong(config.getProperty("driver.recycle.max.age.minutes", "30"))),
+                Integer.parseInt(config.getProperty("driver.recycle.max.scenarios", "50")),
+                Double.parseDouble(config.getProperty("driver.recycle.latency.factor", "3")));
+    }
+
+    /**
+     * Start tracking a newly created session
+     */
+    public void track(WebDriver driver) {
+        if (enabled) {
+            SessionHealth health = sessions.computeIfAbsent(driver, SessionHealth::new);
+            if (!health.browserPids.isEmpty()) {
+                health.recordCpu(BrowserProcessInspector.sample(health.browserPids));
+            }
+        }
+    }
+
+    /**
+     * Record a finished scenario on the session and tell whether it has crossed a recycling threshold
+     */
+    public boolean shouldRecycle(WebDriver driver) {
+        if (!enabled) {
+            return false;
+        }
+        SessionHealth health = sessions.computeIfAbsent(driver, SessionHealth::new);
+        health.scenarios++;
+        health.recordLatency(probeLatencyMs(driver));
+
+        String reason = null;
+        if (maxScenarios > 0 && health.scenarios >= maxScenarios) {
+            reason = "served " + health.scenarios + " scenarios";
+        } else if (!maxAge.isZero() && health.age().compareTo(maxAge) >= 0) {
+            reason = "is " + health.age().toMinutes() + " minutes old";
+        } else if (health.isLatencyDegraded(latencyFactor)) {
+            reason = String.format("command latency rose from %.0f ms to %.0f ms", health.baselineLatencyMs, health.latencyMs);
+        } else if (!health.browserPids.isEmpty()) {
+            // Renderers come and go with tabs, so look the process tree up again
+            health.browserPids = BrowserProcessInspector.findBrowserPids(driver);
+            BrowserProcessInspector.ProcessSample sample = BrowserProcessInspector.sample(health.browserPids);
+            double cpuPercent = health.recordCpu(sample);
+            if (maxRssBytes > 0 && sample.rssBytes > maxRssBytes) {
+                reason = "browser uses " + sample.rssBytes / (1024 * 1024) + " MB resident memory";
+            } else if (maxCpuPercent > 0 && cpuPercent > maxCpuPercent) {
+                reason = String.format("browser averaged %.0f%% CPU over the last scenario", cpuPercent);
+            }
+        }
+
+        if (reason != null) {
+            logger.info("Recycling driver: session {}", reason);
+            sessions.remove(driver);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Drop tracking for a session that was closed for any other reason
+     */
+    public void forget(WebDriver driver) {
+        sessions.remove(driver);
+    }
+
+    private double probeLatencyMs(WebDriver driver) {
+        long start = System.nanoTime();
+        // A script round trip goes through the renderer, which is where long-lived sessions slow down
+        ((JavascriptExecutor) driver).executeScript("return 1;");
+        return (System.nanoTime() - start) / 1_000_000.0;
+    }
+
+    private static final class SessionHealth {
+        private final long startedAt = System.nanoTime();
+        private Set<Long> browserPids;
+        private int scenarios;
+        private int latencySamples;
+        private double baselineLatencyMs;
+        private double latencyMs;
+        private double lastCpuSeconds = -1;
+        private long lastCpuSampleAt;
+
+        SessionHealth(WebDriver driver) {
+            this.browserPids = BrowserProcessInspector.findBrowserPids(driver);
+        }
+
+        Duration age() {
+            return Duration.ofNanos(System.nanoTime() - startedAt);
+        }
+
+        void recordLatency(double sampleMs) {
+            latencySamples++;
+            if (latencySamples <= LATENCY_BASELINE_SAMPLES) {
+                baselineLatencyMs += (sampleMs - baselineLatencyMs) / latencySamples;
+                latencyMs = baselineLatencyMs;
+            } else {
+                latencyMs = LATENCY_SMOOTHING * sampleMs + (1 - LATENCY_SMOOTHING) * latencyMs;
+            }
+        }
+
+        boolean isLatencyDegraded(double factor) {
+            return factor > 0 && latencySamples > LATENCY_BASELINE_SAMPLES
+                    && latencyMs > LATENCY_NOISE_FLOOR_MS && latencyMs > baselineLatencyMs * factor;
+        }
+
+        // Average CPU since the previous sample, as a percentage of one core
+        double recordCpu(BrowserProcessInspector.ProcessSample sample) {
+            long now = System.nanoTime();
+            double percent = 0;
+            if (lastCpuSeconds >= 0 && now > lastCpuSampleAt) {
+                percent = (sample.cpuSeconds - lastCpuSeconds) / ((now - lastCpuSampleAt) / 1e9) * 100;
+            }
+            lastCpuSeconds = sample.cpuSeconds;
+            lastCpuSampleAt = now;
+            return percent;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package org.example.core;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Recycling thresholds checked against a stand-in session whose script round trip takes a set time
+ */
+public class DriverHealthMonitorTest {
+
+    private static final Duration NO_AGE_LIMIT = Duration.ZERO;
+
+    private final AtomicLong scriptLatencyMs = new AtomicLong();
+
+    @Test
+    public void neverRecyclesWhenDisabled() {
+        DriverHealthMonitor monitor = new DriverHealthMonitor(false, 0, 0, Duration.ofMillis(1), 1, 3);
+        WebDriver driver = session();
+        for (int i = 0; i < 5; i++) {
+            assertFalse(monitor.shouldRecycle(driver));
+        }
+    }
+
+    @Test
+    public void recyclesAfterTheScenarioLimit() {
+        DriverHealthMonitor monitor = new DriverHealthMonitor(true, 0, 0, NO_AGE_LIMIT, 3, 0);
+        WebDriver driver = session();
+        monitor.track(driver);
+        assertFalse(monitor.shouldRecycle(driver));
+        assertFalse(monitor.shouldRecycle(driver));
+        assertTrue(monitor.shouldRecycle(driver));
+        // A recycled session is forgotten, so a replacement starts counting afresh
+        assertFalse(monitor.shouldRecycle(driver));
+    }
+
+    @Test
+    public void recyclesSessionsOlderThanTheAgeLimit() throws InterruptedException {
+        DriverHealthMonitor monitor = new DriverHealthMonitor(true, 0, 0, Duration.ofMillis(50), 0, 0);
+        WebDriver driver = session();
+        monitor.track(driver);
+        assertFalse(monitor.shouldRecycle(driver));
+        Thread.sleep(60);
+        assertTrue(monitor.shouldRecycle(driver));
+    }
+
+    @Test
+    public void recyclesWhenCommandLatencyRisesWellAboveItsBaseline() {
+        DriverHealthMonitor monitor = new DriverHealthMonitor(true, 0, 0, NO_AGE_LIMIT, 0, 3);
+        WebDriver driver = session();
+        monitor.track(driver);
+        for (int i = 0; i < 3; i++) {
+            assertFalse(monitor.shouldRecycle(driver));
+        }
+        scriptLatencyMs.set(300);
+        assertTrue(monitor.shouldRecycle(driver));
+    }
+
+    @Test
+    public void ignoresLatencyBelowTheNoiseFloor() {
+        DriverHealthMonitor monitor = new DriverHealthMonitor(true, 0, 0, NO_AGE_LIMIT, 0, 3);
+        WebDriver driver = session();
+        monitor.track(driver);
+        for (int i = 0; i < 3; i++) {
+            monitor.shouldRecycle(driver);
+        }
+        // Smoothed into a near-zero baseline, a 60 ms sample brings the latency to about 18 ms
+        scriptLatencyMs.set(60);
+        assertFalse(monitor.shouldRecycle(driver));
+    }
+
+    @Test
+    public void latencyCheckIsOffWithAZeroFactor() {
+        DriverHealthMonitor monitor = new DriverHealthMonitor(true, 0, 0, NO_AGE_LIMIT, 0, 0);
+        WebDriver driver = session();
+        monitor.track(driver);
+        for (int i = 0; i < 3; i++) {
+            monitor.shouldRecycle(driver);
+        }
+        scriptLatencyMs.set(300);
+        assertFalse(monitor.shouldRecycle(driver));
+    }
+
+    // Reports no capabilities, so no browser processes are looked up
+    private WebDriver session() {
+        return (WebDriver) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] {WebDriver.class, JavascriptExecutor.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "executeScript" -> {
+                        Thread.sleep(scriptLatencyMs.get());
+                        yield 1L;
+                    }
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "stand-in session";
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
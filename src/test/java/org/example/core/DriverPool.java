@@ -0,0 +1,179 @@
+package org.example.core;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Bounded pool of warm WebDriver sessions
+ * Lends a session per scenario and resets it between leases instead of quitting it
+ */
+public class DriverPool {
+
+    private static final Logger logger = LoggerFactory.getLogger(DriverPool.class);
+
+    private final Supplier<WebDriver> driverFactory;
+    private final String baseUrl;
+    private final Duration leaseTimeout;
+    private final DriverHealthMonitor healthMonitor;
+    private final Semaphore capacity;
+    private final BlockingQueue<WebDriver> idleDrivers = new LinkedBlockingQueue<>();
+    private final Set<WebDriver> allDrivers = ConcurrentHashMap.newKeySet();
+
+    public DriverPool(int maxSize, Duration leaseTimeout, String baseUrl, Supplier<WebDriver> driverFactory,
+                      DriverHealthMonitor healthMonitor) {
+        this.capacity = new Semaphore(maxSize, true);
+        this.healthMonitor = healthMonitor;
+        this.leaseTimeout = leaseTimeout;
+        this.baseUrl = baseUrl;
+        this.driverFactory = driverFactory;
+    }
+
+    /**
+     * Lease a healthy driver, creating one if the pool has spare capacity
+     */
+    public WebDriver lease() {
+        try {
+            if (!capacity.tryAcquire(leaseTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new IllegalStateException("Timed out after " + leaseTimeout + " waiting for a pooled driver");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a pooled driver", e);
+        }
+
+        try {
+            WebDriver driver;
+            while ((driver = idleDrivers.poll()) != null) {
+                if (isHealthy(driver)) {
+                    logger.debug("Reusing pooled driver: {}", driver);
+                    return driver;
+                }
+                evict(driver);
+            }
+
+            driver = driverFactory.get();
+            allDrivers.add(driver);
+            healthMonitor.track(driver);
+            logger.info("Created new pooled driver ({} in pool)", allDrivers.size());
+            return driver;
+        } catch (RuntimeException e) {
+            capacity.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Return a leased driver to the pool, resetting its state for the next scenario.
+     * Sessions that crossed a health threshold are recycled instead.
+     */
+    public void release(WebDriver driver) {
+        if (driver == null) {
+            return;
+        }
+
+        try {
+            if (isReusable(driver)) {
+                idleDrivers.offer(driver);
+            } else {
+                evict(driver);
+            }
+        } finally {
+            capacity.release();
+        }
+    }
+
+    /**
+     * Quit every session owned by the pool
+     */
+    public void shutdown() {
+        idleDrivers.clear();
+        allDrivers.forEach(this::quitQuietly);
+        allDrivers.clear();
+        logger.info("Driver pool shut down");
+    }
+
+    public int size() {
+        return allDrivers.size();
+    }
+
+    public int idleCount() {
+        return idleDrivers.size();
+    }
+
+    private boolean isHealthy(WebDriver driver) {
+        try {
+            driver.getWindowHandle();
+            return true;
+        } catch (Exception e) {
+            logger.warn("Pooled driver failed health probe: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    // Any failure while probing or recycling (open alert, dead session, vanished process) evicts the session
+    private boolean isReusable(WebDriver driver) {
+        try {
+            return isHealthy(driver) && !healthMonitor.shouldRecycle(driver) && reset(driver);
+        } catch (Exception e) {
+            logger.warn("Health check of pooled driver failed, evicting it", e);
+            return false;
+        }
+    }
+
+    private boolean reset(WebDriver driver) {
+        try {
+            String mainWindow = driver.getWindowHandles().iterator().next();
+            for (String handle : driver.getWindowHandles()) {
+                if (!handle.equals(mainWindow)) {
+                    driver.switchTo().window(handle).close();
+                }
+            }
+            driver.switchTo().window(mainWindow);
+
+            // Storage is per origin, so land on the application before clearing it
+            driver.get(baseUrl);
+            if (driver instanceof HasCdp cdp) {
+                cdp.executeCdpCommand("Network.clearBrowserCookies", Map.of());
+            } else {
+                driver.manage().deleteAllCookies();
+            }
+            ((JavascriptExecutor) driver).executeScript(
+                    "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}");
+            return true;
+        } catch (Exception e) {
+            logger.warn("Failed to reset pooled driver, evicting it", e);
+            return false;
+        }
+    }
+
+    private void evict(WebDriver driver) {
+        allDrivers.remove(driver);
+        try {
+            healthMonitor.forget(driver);
+        } finally {
+            quitQuietly(driver);
+        }
+        logger.info("Evicted pooled driver ({} left in pool)", allDrivers.size());
+    }
+
+    private void quitQuietly(WebDriver driver) {
+        try {
+            driver.quit();
+        } catch (Exception e) {
+            logger.debug("Ignoring failure while quitting driver", e);
+        }
+    }
+}
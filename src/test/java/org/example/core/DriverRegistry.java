@@ -0,0 +1,93 @@
+package org.example.core;
+
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Thread-safe registry of the WebDriver owned by each running scenario
+ * Step definitions, page objects and listeners resolve their driver through it.
+ * Drivers are started lazily on first lookup so scenarios that never touch the UI never launch a browser.
+ */
+public final class DriverRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(DriverRegistry.class);
+
+    private static final Map<String, Supplier<WebDriver>> scenarioDriverFactories = new ConcurrentHashMap<>();
+    private static final Map<String, WebDriver> scenarioDrivers = new ConcurrentHashMap<>();
+    private static final ThreadLocal<String> currentScenario = new ThreadLocal<>();
+
+    private DriverRegistry() {
+    }
+
+    /**
+     * Bind an already started driver to a scenario and to the thread running it
+     */
+    public static void register(String scenarioId, WebDriver driver) {
+        scenarioDrivers.put(scenarioId, driver);
+        currentScenario.set(scenarioId);
+        logger.debug("Registered driver for scenario {} on thread {}", scenarioId, Thread.currentThread().getName());
+    }
+
+    /**
+     * Bind a driver factory to a scenario; the driver is only started when first requested
+     */
+    public static void register(String scenarioId, Supplier<WebDriver> driverFactory) {
+        scenarioDriverFactories.put(scenarioId, driverFactory);
+        currentScenario.set(scenarioId);
+        logger.debug("Registered lazy driver for scenario {} on thread {}", scenarioId, Thread.currentThread().getName());
+    }
+
+    /**
+     * Remove the binding of the scenario running on the current thread
+     */
+    public static void unregister() {
+        String scenarioId = currentScenario.get();
+        if (scenarioId != null) {
+            scenarioDrivers.remove(scenarioId);
+            scenarioDriverFactories.remove(scenarioId);
+            currentScenario.remove();
+            logger.debug("Unregistered driver for scenario {}", scenarioId);
+        }
+    }
+
+    /**
+     * Get the driver of the scenario running on the current thread, starting it if needed
+     */
+    public static WebDriver getDriver() {
+        String scenarioId = currentScenario.get();
+        return scenarioId != null ? getDriver(scenarioId) : null;
+    }
+
+    /**
+     * Get the driver of a specific scenario, starting it if needed
+     */
+    public static WebDriver getDriver(String scenarioId) {
+        WebDriver driver = scenarioDrivers.get(scenarioId);
+        if (driver == null) {
+            Supplier<WebDriver> driverFactory = scenarioDriverFactories.get(scenarioId);
+            if (driverFactory != null) {
+                logger.info("Starting driver on first use for scenario {}", scenarioId);
+                driver = driverFactory.get();
+                scenarioDrivers.put(scenarioId, driver);
+            }
+        }
+        return driver;
+    }
+
+    /**
+     * Get the driver of the current scenario only if it was already started
+     */
+    public static WebDriver peekDriver() {
+        String scenarioId = currentScenario.get();
+        return scenarioId != null ? scenarioDrivers.get(scenarioId) : null;
+    }
+
+    public static int activeCount() {
+        return scenarioDrivers.size();
+    }
+}
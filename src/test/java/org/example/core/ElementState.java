@@ -0,0 +1,31 @@
+package org.example.core;
+
+import java.util.Map;
+
+/**
+ * Text, visibility and attributes of one element, read together with its siblings in a single script call
+ */
+public class ElementState {
+
+    private final String text;
+    private final boolean displayed;
+    private final Map<String, String> attributes;
+
+    public ElementState(String text, boolean displayed, Map<String, String> attributes) {
+        this.text = text;
+        this.displayed = displayed;
+        this.attributes = attributes;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public boolean isDisplayed() {
+        return displayed;
+    }
+
+    public String getAttribute(String name) {
+        return attributes.get(name);
+    }
+}
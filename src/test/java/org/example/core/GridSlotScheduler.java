@@ -0,0 +1,180 @@
+package org.example.core;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Client-side queue in front of a Selenium Grid, bounded by the slots the grid currently reports
+ * Scenarios wait here for a free slot instead of piling up in the hub's new-session queue
+ */
+public class GridSlotScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(GridSlotScheduler.class);
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final Duration SLOT_POLL_INTERVAL = Duration.ofSeconds(1);
+    private static final Map<String, GridSlotScheduler> schedulers = new ConcurrentHashMap<>();
+
+    private final String hubUrl;
+    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+    private final Map<String, SlotQueue> slotQueues = new ConcurrentHashMap<>();
+
+    private GridSlotScheduler(String hubUrl) {
+        this.hubUrl = hubUrl.endsWith("/") ? hubUrl.substring(0, hubUrl.length() - 1) : hubUrl;
+    }
+
+    public static GridSlotScheduler forHub(String hubUrl) {
+        return schedulers.computeIfAbsent(hubUrl, GridSlotScheduler::new);
+    }
+
+    public String getHubUrl() {
+        return hubUrl;
+    }
+
+    /**
+     * Total slots the grid offers for a browser across all nodes that are up
+     */
+    public int capacity(String browserType) {
+        return countSlots(browserType).total();
+    }
+
+    /**
+     * Slots for a browser that currently have no session running
+     */
+    public int availableSlots(String browserType) {
+        return countSlots(browserType).free();
+    }
+
+    /**
+     * Wait for a grid slot for the browser: a turn in the client-side queue while fewer than the grid's
+     * current capacity are in use, and a slot the grid shows free. Capacity is read again on every
+     * attempt, so nodes joining or leaving (or a grid still starting) are picked up as they happen.
+     */
+    public void acquire(String browserType, Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        SlotQueue queue = queueFor(browserType);
+        SlotCount slots = null;
+        IllegalStateException statusFailure = null;
+        try {
+            queue.lock.lockInterruptibly();
+            try {
+                while (true) {
+                    try {
+                        slots = countSlots(browserType);
+                        statusFailure = null;
+                        if (slots.total() != queue.capacity) {
+                            logger.info("Grid at {} offers {} {} slot(s)", hubUrl, slots.total(), browserType);
+                            queue.capacity = slots.total();
+                        }
+                        // Other clients may share the grid, so our own count is not enough
+                        if (queue.inUse < slots.total() && slots.free() > 0) {
+                            queue.inUse++;
+                            return;
+                        }
+                    } catch (IllegalStateException e) {
+                        statusFailure = e;
+                    }
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        throw timeout(browserType, timeout, slots, statusFailure);
+                    }
+                    queue.slotReleased.awaitNanos(Math.min(remaining, SLOT_POLL_INTERVAL.toNanos()));
+                }
+            } finally {
+                queue.lock.unlock();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a grid slot", e);
+        }
+    }
+
+    /**
+     * Hand a slot taken with {@link #acquire(String, Duration)} back to the queue
+     */
+    public void release(String browserType) {
+        SlotQueue queue = queueFor(browserType);
+        queue.lock.lock();
+        try {
+            queue.inUse = Math.max(0, queue.inUse - 1);
+            queue.slotReleased.signal();
+        } finally {
+            queue.lock.unlock();
+        }
+    }
+
+    private IllegalStateException timeout(String browserType, Duration timeout, SlotCount slots,
+                                           IllegalStateException statusFailure) {
+        if (statusFailure != null) {
+            return new IllegalStateException("Grid at " + hubUrl + " did not answer within " + timeout.toSeconds()
+                    + "s while waiting for a " + browserType + " slot", statusFailure);
+        }
+        if (slots == null || slots.total() == 0) {
+            return new IllegalStateException("Grid at " + hubUrl + " offered no " + browserType + " slot within "
+                    + timeout.toSeconds() + "s");
+        }
+        return new IllegalStateException("Timed out after " + timeout.toSeconds() + "s waiting for a "
+                + browserType + " slot on " + hubUrl);
+    }
+
+    private SlotQueue queueFor(String browserType) {
+        return slotQueues.computeIfAbsent(browserType.toLowerCase(), type -> new SlotQueue());
+    }
+
+    private SlotCount countSlots(String browserType) {
+        String browserName = "edge".equalsIgnoreCase(browserType) ? "MicrosoftEdge" : browserType.toLowerCase();
+        int total = 0;
+        int free = 0;
+        for (JsonNode node : fetchStatus().path("value").path("nodes")) {
+            if (!"UP".equals(node.path("availability").asText())) {
+                continue;
+            }
+            for (JsonNode slot : node.path("slots")) {
+                if (browserName.equalsIgnoreCase(slot.path("stereotype").path("browserName").asText())) {
+                    total++;
+                    if (slot.path("session").isMissingNode() || slot.path("session").isNull()) {
+                        free++;
+                    }
+                }
+            }
+        }
+        return new SlotCount(total, free);
+    }
+
+    private JsonNode fetchStatus() {
+        try {
+            HttpResponse<String> response = httpClient.send(
+                    HttpRequest.newBuilder(URI.create(hubUrl + "/status")).timeout(Duration.ofSeconds(10)).GET().build(),
+                    HttpResponse.BodyHandlers.ofString());
+            return objectMapper.readTree(response.body());
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not read grid status from " + hubUrl, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while reading grid status from " + hubUrl, e);
+        }
+    }
+
+    // Fair, so scenarios get grid slots in the order they asked for them
+    private static final class SlotQueue {
+        private final ReentrantLock lock = new ReentrantLock(true);
+        private final Condition slotReleased = lock.newCondition();
+        private int inUse;
+        private int capacity = -1;
+    }
+
+    private record SlotCount(int total, int free) {
+    }
+}
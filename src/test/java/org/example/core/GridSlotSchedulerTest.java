@@ -0,0 +1,125 @@
+package org.example.core;
+
+import com.sun.net.httpserver.HttpServer;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+/**
+ * Runs the scheduler against an in-process stand-in grid that serves /status from the slots set by each test
+ */
+public class GridSlotSchedulerTest {
+
+    private HttpServer grid;
+    private volatile int chromeSlots;
+    private volatile int busySlots;
+    private volatile boolean nodeUp = true;
+    private GridSlotScheduler scheduler;
+
+    @BeforeMethod
+    public void startGrid() throws IOException {
+        grid = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        grid.createContext("/status", exchange -> {
+            byte[] body = statusJson().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        grid.start();
+        scheduler = GridSlotScheduler.forHub("http://127.0.0.1:" + grid.getAddress().getPort() + "/");
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void stopGrid() {
+        grid.stop(0);
+    }
+
+    @Test
+    public void reportsCapacityAndFreeSlotsOfNodesThatAreUp() {
+        chromeSlots = 3;
+        busySlots = 1;
+        assertEquals(scheduler.capacity("chrome"), 3);
+        assertEquals(scheduler.availableSlots("chrome"), 2);
+        assertEquals(scheduler.capacity("firefox"), 0);
+
+        nodeUp = false;
+        assertEquals(scheduler.capacity("chrome"), 0);
+    }
+
+    @Test
+    public void queuesScenariosBeyondTheGridCapacity() {
+        chromeSlots = 2;
+        scheduler.acquire("chrome", Duration.ofSeconds(5));
+        scheduler.acquire("chrome", Duration.ofSeconds(5));
+
+        IllegalStateException e = expectThrows(IllegalStateException.class,
+                () -> scheduler.acquire("chrome", Duration.ofMillis(1500)));
+        assertTrue(e.getMessage().startsWith("Timed out"), e.getMessage());
+    }
+
+    @Test
+    public void releasedSlotGoesToTheWaitingScenario() throws Exception {
+        chromeSlots = 1;
+        scheduler.acquire("chrome", Duration.ofSeconds(5));
+        CompletableFuture<Void> waiting = CompletableFuture.runAsync(() -> scheduler.acquire("chrome", Duration.ofSeconds(10)));
+
+        Thread.sleep(300);
+        assertFalse(waiting.isDone());
+        scheduler.release("chrome");
+        waiting.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void waitsForSlotsTakenByOtherClients() {
+        chromeSlots = 2;
+        busySlots = 2;
+        expectThrows(IllegalStateException.class, () -> scheduler.acquire("chrome", Duration.ofMillis(1500)));
+    }
+
+    @Test
+    public void picksUpCapacityOfAGridThatIsStillStarting() throws Exception {
+        chromeSlots = 0;
+        CompletableFuture<Void> waiting = CompletableFuture.runAsync(() -> scheduler.acquire("chrome", Duration.ofSeconds(10)));
+
+        Thread.sleep(300);
+        assertFalse(waiting.isDone());
+        chromeSlots = 1;
+        waiting.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void failsWhenTheGridNeverOffersTheBrowser() {
+        chromeSlots = 0;
+        IllegalStateException e = expectThrows(IllegalStateException.class,
+                () -> scheduler.acquire("chrome", Duration.ofMillis(1500)));
+        assertTrue(e.getMessage().contains("offered no chrome slot"), e.getMessage());
+    }
+
+    private String statusJson() {
+        StringBuilder slots = new StringBuilder();
+        for (int i = 0; i < chromeSlots; i++) {
+            if (i > 0) {
+                slots.append(',');
+            }
+            String session = i < busySlots ? "{\"sessionId\": \"s" + i + "\"}" : "null";
+            slots.append("{\"stereotype\": {\"browserName\": \"chrome\"}, \"session\": ").append(session).append('}');
+        }
+        return "{\"value\": {\"ready\": true, \"nodes\": [{\"availability\": \"" + (nodeUp ? "UP" : "DOWN")
+                + "\", \"slots\": [" + slots + "]}]}}";
+    }
+}
@@ -0,0 +1,121 @@
+package org.example.core;
+
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-flight request bookkeeping of one browser session, fed by DevTools network events
+ * Waiting for the network to go idle then costs no driver round trips at all
+ */
+public class NetworkActivityTracker {
+
+    private static final Logger logger = LoggerFactory.getLogger(NetworkActivityTracker.class);
+    private static final Properties config = TestConfig.properties();
+
+    private static final Duration STALLED_AFTER = Duration.ofMillis(
+            Long.parseLong(config.getProperty("network.idle.stalled.ms", "10000")));
+    private static final Duration CHECK_INTERVAL = Duration.ofMillis(25);
+    // Streams stay open for the page's lifetime and would never let it go idle
+    private static final Set<String> IGNORED_TYPES = Set.of("EventSource", "WebSocket");
+
+    private static final Map<WebDriver, NetworkActivityTracker> trackers = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final Map<String, Long> inFlight = new ConcurrentHashMap<>();
+    private volatile long lastActivity = System.nanoTime();
+
+    private NetworkActivityTracker() {
+    }
+
+    /**
+     * Start tracking a freshly created driver; drivers without DevTools are left untracked
+     */
+    public static void attach(WebDriver driver) {
+        if (!(driver instanceof HasDevTools hasDevTools) || trackers.containsKey(driver)) {
+            return;
+        }
+        try {
+            DevTools devTools = hasDevTools.getDevTools();
+            devTools.createSessionIfThereIsNotOne();
+            NetworkActivityTracker tracker = new NetworkActivityTracker();
+            devTools.addListener(new Event<>("Network.requestWillBeSent", input -> input.read(Json.MAP_TYPE)),
+                    event -> tracker.started((Map<?, ?>) event));
+            devTools.addListener(new Event<>("Network.loadingFinished", input -> input.read(Json.MAP_TYPE)),
+                    event -> tracker.finished((Map<?, ?>) event));
+            devTools.addListener(new Event<>("Network.loadingFailed", input -> input.read(Json.MAP_TYPE)),
+                    event -> tracker.finished((Map<?, ?>) event));
+            devTools.send(new Command<>("Network.enable", Map.of()));
+            trackers.put(driver, tracker);
+        } catch (RuntimeException e) {
+            logger.warn("Network activity tracking unavailable for this session", e);
+        }
+    }
+
+    /**
+     * Tracker of the driver, or null when its requests cannot be observed
+     */
+    public static NetworkActivityTracker forDriver(WebDriver driver) {
+        return trackers.get(driver);
+    }
+
+    /**
+     * Block until no request has been in flight for the quiet window, counted from this call at the earliest.
+     * Requests open longer than network.idle.stalled.ms (long polling, hung beacons) are not waited for.
+     */
+    public void awaitIdle(Duration quietWindow, Duration timeout) {
+        long callStart = System.nanoTime();
+        long deadline = callStart + timeout.toNanos();
+        while (!isIdleFor(quietWindow, callStart)) {
+            if (System.nanoTime() > deadline) {
+                throw new TimeoutException("Network not idle after " + timeout.toMillis() + " ms, "
+                        + inFlight.size() + " request(s) in flight");
+            }
+            try {
+                Thread.sleep(CHECK_INTERVAL.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for network idle", e);
+            }
+        }
+    }
+
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    // The window never starts before the call, so requests an action has yet to send get the chance to show up
+    private boolean isIdleFor(Duration quietWindow, long callStart) {
+        long now = System.nanoTime();
+        inFlight.values().removeIf(started -> now - started > STALLED_AFTER.toNanos());
+        long quietSince = Math.max(lastActivity, callStart);
+        return inFlight.isEmpty() && now - quietSince >= quietWindow.toNanos();
+    }
+
+    private void started(Map<?, ?> event) {
+        if (!IGNORED_TYPES.contains(String.valueOf(event.get("type")))) {
+            // Redirects reuse the request id, so they count once
+            inFlight.put(String.valueOf(event.get("requestId")), System.nanoTime());
+            lastActivity = System.nanoTime();
+        }
+    }
+
+    private void finished(Map<?, ?> event) {
+        if (inFlight.remove(String.valueOf(event.get("requestId"))) != null) {
+            lastActivity = System.nanoTime();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package org.example.core;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Named set of URL patterns the browser should not download, applied through the DevTools protocol
+ * Lets functional runs skip images, fonts, analytics and social widgets no assertion looks at
+ */
+public class NetworkBlockingProfile {
+
+    private static final Logger logger = LoggerFactory.getLogger(NetworkBlockingProfile.class);
+
+    private final String name;
+    private final List<String> blockedPatterns;
+    private final List<Pattern> allowedPatterns;
+
+    public NetworkBlockingProfile(String name, List<String> blockedPatterns, List<String> allowedPatterns) {
+        this.name = name;
+        this.blockedPatterns = List.copyOf(blockedPatterns);
+        this.allowedPatterns = allowedPatterns.stream()
+                .map(NetworkBlockingProfile::toRegex)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Build the profile selected by network.profile, plus the global network.block / network.allow lists
+     */
+    public static NetworkBlockingProfile fromConfig(Properties config) {
+        String name = config.getProperty("network.profile", "full-fidelity");
+        List<String> blocked = new ArrayList<>(splitPatterns(config.getProperty("network.profile." + name + ".block", "")));
+        blocked.addAll(splitPatterns(config.getProperty("network.block", "")));
+        List<String> allowed = new ArrayList<>(splitPatterns(config.getProperty("network.profile." + name + ".allow", "")));
+        allowed.addAll(splitPatterns(config.getProperty("network.allow", "")));
+        return new NetworkBlockingProfile(name, blocked, allowed);
+    }
+
+    /**
+     * Install the profile on a freshly created driver
+     */
+    public void applyTo(WebDriver driver) {
+        if (blockedPatterns.isEmpty()) {
+            return;
+        }
+        if (!(driver instanceof HasDevTools hasDevTools)) {
+            logger.warn("Network profile '{}' ignored: driver does not support DevTools", name);
+            return;
+        }
+
+        DevTools devTools = hasDevTools.getDevTools();
+        devTools.createSessionIfThereIsNotOne();
+
+        if (allowedPatterns.isEmpty()) {
+            // Blocking happens entirely inside the browser, no per-request round trip
+            devTools.send(new Command<>("Network.enable", Map.of()));
+            devTools.send(new Command<>("Network.setBlockedURLs", Map.of("urls", blockedPatterns)));
+        } else {
+            // Only requests matching a block pattern are paused, so allowed exceptions can be let through
+            devTools.addListener(new Event<>("Fetch.requestPaused", input -> input.read(Json.MAP_TYPE)),
+                    paused -> handlePausedRequest(devTools, (Map<?, ?>) paused));
+            List<Map<String, Object>> patterns = blockedPatterns.stream()
+                    .map(pattern -> Map.<String, Object>of("urlPattern", pattern))
+                    .collect(Collectors.toList());
+            devTools.send(new Command<>("Fetch.enable", Map.of("patterns", patterns)));
+        }
+        logger.info("Applied network profile '{}' ({} blocked, {} allowed patterns)",
+                name, blockedPatterns.size(), allowedPatterns.size());
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<String> getBlockedPatterns() {
+        return blockedPatterns;
+    }
+
+    private void handlePausedRequest(DevTools devTools, Map<?, ?> paused) {
+        Object requestId = paused.get("requestId");
+        String url = String.valueOf(((Map<?, ?>) paused.get("request")).get("url"));
+        try {
+            if (isAllowed(url)) {
+                devTools.send(new Command<>("Fetch.continueRequest", Map.of("requestId", requestId)));
+            } else {
+                devTools.send(new Command<>("Fetch.failRequest",
+                        Map.of("requestId", requestId, "errorReason", "BlockedByClient")));
+            }
+        } catch (Exception e) {
+            logger.debug("Could not resolve paused request: {}", url, e);
+        }
+    }
+
+    boolean isAllowed(String url) {
+        return allowedPatterns.stream().anyMatch(pattern -> pattern.matcher(url).matches());
+    }
+
+    private static List<String> splitPatterns(String value) {
+        return Arrays.stream(value.split(","))
+                .map(String::trim)
+                .filter(pattern -> !pattern.isEmpty())
+                .collect(Collectors.toList());
+    }
+
+    // DevTools URL patterns only know the '*' wildcard
+    static Pattern toRegex(String wildcard) {
+        return Pattern.compile(Arrays.stream(wildcard.split("\\*", -1))
+                .map(Pattern::quote)
+                .collect(Collectors.joining(".*")));
+    }
+}
@@ -0,0 +1,66 @@
+package org.example.core;
+
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.Properties;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class NetworkBlockingProfileTest {
+
+    @Test
+    public void wildcardMatchesAnySequence() {
+        assertTrue(NetworkBlockingProfile.toRegex("*.png").matcher("https://shop.example/images/a.png").matches());
+        assertTrue(NetworkBlockingProfile.toRegex("*google-analytics.com*").matcher("https://www.google-analytics.com/collect?v=1").matches());
+        assertFalse(NetworkBlockingProfile.toRegex("*.png").matcher("https://shop.example/a.png?size=2").matches());
+    }
+
+    @Test
+    public void everythingButTheWildcardIsLiteral() {
+        assertTrue(NetworkBlockingProfile.toRegex("*/images/thumbs/*").matcher("https://shop.example/images/thumbs/1.jpg").matches());
+        assertFalse(NetworkBlockingProfile.toRegex("*.png").matcher("https://shop.example/apng").matches());
+        assertTrue(NetworkBlockingProfile.toRegex("*?a=(1)*").matcher("https://shop.example/x?a=(1)&b").matches());
+        assertFalse(NetworkBlockingProfile.toRegex("*?a=(1)*").matcher("https://shop.example/xa=1").matches());
+    }
+
+    @Test
+    public void patternWithoutWildcardMatchesOnlyItself() {
+        assertTrue(NetworkBlockingProfile.toRegex("https://shop.example/").matcher("https://shop.example/").matches());
+        assertFalse(NetworkBlockingProfile.toRegex("https://shop.example/").matcher("https://shop.example/cart").matches());
+    }
+
+    @Test
+    public void allowPatternsPunchHolesInTheBlockList() {
+        NetworkBlockingProfile profile = new NetworkBlockingProfile("test", List.of("*.jpg"), List.of("*/images/thumbs/*"));
+        assertTrue(profile.isAllowed("https://shop.example/images/thumbs/1.jpg"));
+        assertFalse(profile.isAllowed("https://shop.example/images/banner.jpg"));
+    }
+
+    @Test
+    public void buildsTheSelectedProfilePlusTheGlobalLists() {
+        Properties config = new Properties();
+        config.setProperty("network.profile", "lean");
+        config.setProperty("network.profile.lean.block", "*.woff, *.png,");
+        config.setProperty("network.profile.lean.allow", "*/logo.png");
+        config.setProperty("network.profile.other.block", "*.js");
+        config.setProperty("network.block", "*ads*");
+        config.setProperty("network.allow", "*/ads.txt");
+
+        NetworkBlockingProfile profile = NetworkBlockingProfile.fromConfig(config);
+        assertEquals(profile.getName(), "lean");
+        assertEquals(profile.getBlockedPatterns(), List.of("*.woff", "*.png", "*ads*"));
+        assertTrue(profile.isAllowed("https://shop.example/logo.png"));
+        assertTrue(profile.isAllowed("https://shop.example/ads.txt"));
+        assertFalse(profile.isAllowed("https://shop.example/banner.png"));
+    }
+
+    @Test
+    public void defaultsToFullFidelity() {
+        NetworkBlockingProfile profile = NetworkBlockingProfile.fromConfig(new Properties());
+        assertEquals(profile.getName(), "full-fidelity");
+        assertTrue(profile.getBlockedPatterns().isEmpty());
+    }
+}
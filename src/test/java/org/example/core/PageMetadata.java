@@ -0,0 +1,150 @@
+package org.example.core;
+
+import org.example.pagegen.CachingElementLocator;
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.interactions.Locatable;
+import org.openqa.selenium.support.FindAll;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.FindBys;
+import org.openqa.selenium.support.pagefactory.Annotations;
+import org.openqa.selenium.support.pagefactory.internal.LocatingElementListHandler;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Proxy;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * PageFactory metadata of a page class (element fields and their locators), computed once per class
+ * Binding a new page instance then only creates its locators and proxies
+ */
+final class PageMetadata {
+
+    private static final Properties config = TestConfig.properties();
+
+    private static final ClassValue<PageMetadata> byClass = new ClassValue<>() {
+        @Override
+        protected PageMetadata computeValue(Class<?> pageClass) {
+            return new PageMetadata(pageClass);
+        }
+    };
+
+    private record ElementField(Field field, By by, boolean list) {
+    }
+
+    private final List<ElementField> elementFields = new ArrayList<>();
+
+    // Same fields PageFactory decorates: every WebElement, and List<WebElement> annotated with a finder
+    private PageMetadata(Class<?> pageClass) {
+        for (Class<?> type = pageClass; type != null && type != Object.class; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                boolean list = isElementList(field);
+                if (field.getType() == WebElement.class || list) {
+                    field.setAccessible(true);
+                    elementFields.add(new ElementField(field, new Annotations(field).buildBy(), list));
+                }
+            }
+        }
+    }
+
+    static PageMetadata of(Class<?> pageClass) {
+        return byClass.get(pageClass);
+    }
+
+    /**
+     * Whether pages get cached elements at all; element.cache.enabled=false leaves binding to PageFactory
+     */
+    static boolean isCachingEnabled() {
+        return Boolean.parseBoolean(config.getProperty("element.cache.enabled", "true"));
+    }
+
+    /**
+     * Point the element fields of a page at cached, stale-aware proxies resolved in the given context
+     */
+    void bind(Object page, SearchContext searchContext) {
+        ClassLoader loader = page.getClass().getClassLoader();
+        for (ElementField elementField : elementFields) {
+            CachingElementLocator locator = new CachingElementLocator(searchContext, elementField.by());
+            Object proxy = elementField.list()
+                    ? listProxy(loader, locator)
+                    : elementProxy(loader, locator);
+            try {
+                elementField.field().set(page, proxy);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("Cannot bind " + elementField.field(), e);
+            }
+        }
+    }
+
+    private static boolean isElementList(Field field) {
+        if (!List.class.isAssignableFrom(field.getType())
+                || !(field.getGenericType() instanceof ParameterizedType listType)) {
+            return false;
+        }
+        Type elementType = listType.getActualTypeArguments()[0];
+        return elementType == WebElement.class && (field.isAnnotationPresent(FindBy.class)
+                || field.isAnnotationPresent(FindBys.class) || field.isAnnotationPresent(FindAll.class));
+    }
+
+    private static WebElement elementProxy(ClassLoader loader, CachingElementLocator locator) {
+        return (WebElement) Proxy.newProxyInstance(loader,
+                new Class<?>[] {WebElement.class, WrapsElement.class, Locatable.class},
+                new StaleRetryingHandler(locator));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<WebElement> listProxy(ClassLoader loader, CachingElementLocator locator) {
+        return (List<WebElement>) Proxy.newProxyInstance(loader, new Class<?>[] {List.class},
+                new LocatingElementListHandler(locator));
+    }
+
+    private static final class StaleRetryingHandler implements InvocationHandler {
+
+        private final CachingElementLocator locator;
+
+        StaleRetryingHandler(CachingElementLocator locator) {
+            this.locator = locator;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            boolean retried = false;
+            while (true) {
+                WebElement element;
+                try {
+                    element = locator.findElement();
+                } catch (NoSuchElementException e) {
+                    if ("toString".equals(method.getName())) {
+                        return "Proxy element for: " + locator;
+                    }
+                    throw e;
+                }
+                if ("getWrappedElement".equals(method.getName())) {
+                    return element;
+                }
+                try {
+                    return method.invoke(element, args);
+                } catch (InvocationTargetException e) {
+                    // A stale element never received the call, so one retry on a fresh lookup is safe
+                    if (e.getCause() instanceof StaleElementReferenceException && !retried) {
+                        locator.invalidate();
+                        retried = true;
+                        continue;
+                    }
+                    throw e.getCause();
+                }
+            }
+        }
+    }
+}
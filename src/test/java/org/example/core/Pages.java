@@ -0,0 +1,52 @@
+package org.example.core;
+
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Page objects reused per driver session
+ * Steps ask for a page instead of constructing it, so each page class is built and bound once per session
+ */
+public final class Pages {
+
+    private static final Logger logger = LoggerFactory.getLogger(Pages.class);
+
+    private static final Map<WebDriver, Map<Class<?>, BasePage>> pagesByDriver = new ConcurrentHashMap<>();
+
+    private Pages() {
+    }
+
+    /**
+     * The page of the given class bound to the driver, created on first request
+     */
+    public static <T extends BasePage> T get(WebDriver driver, Class<T> pageClass) {
+        Map<Class<?>, BasePage> pages = pagesByDriver.computeIfAbsent(driver, d -> new ConcurrentHashMap<>());
+        return pageClass.cast(pages.computeIfAbsent(pageClass, type -> create(pageClass, driver)));
+    }
+
+    /**
+     * Drop the pages of a driver, e.g. when its session ends or goes back to the pool
+     */
+    public static void forget(WebDriver driver) {
+        Map<Class<?>, BasePage> pages = pagesByDriver.remove(driver);
+        if (pages != null) {
+            logger.debug("Released {} page object(s)", pages.size());
+        }
+    }
+
+    private static <T extends BasePage> T create(Class<T> pageClass, WebDriver driver) {
+        try {
+            return pageClass.getConstructor(WebDriver.class).newInstance(driver);
+        } catch (InvocationTargetException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause
+                    : new IllegalStateException("Cannot create page " + pageClass.getSimpleName(), e.getCause());
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Page " + pageClass.getSimpleName() + " needs a public (WebDriver) constructor", e);
+        }
+    }
+}
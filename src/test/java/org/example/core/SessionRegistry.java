@@ -0,0 +1,145 @@
+package org.example.core;
+
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * On-disk record of the driver and browser processes each JVM has spawned, one file per JVM
+ * Lets a later run find and terminate processes left behind by a run that was killed mid-suite
+ */
+public final class SessionRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(SessionRegistry.class);
+    private static final Duration TERMINATION_GRACE = Duration.ofSeconds(5);
+    private static final String JVM_PID = "jvm.pid";
+    private static final String JVM_STARTED = "jvm.started";
+
+    // Tracked pid -> process start time, so a reused pid is never mistaken for ours
+    private static final Map<Long, Long> trackedProcesses = new ConcurrentHashMap<>();
+
+    private SessionRegistry() {
+    }
+
+    /**
+     * Record the processes behind a newly started local session
+     */
+    public static void record(WebDriver driver, Path registryDir) {
+        // Driver services are direct children of this JVM, browsers are found through their profile
+        ProcessHandle.current().children()
+                .filter(child -> child.info().command().map(command -> command.contains("driver")).orElse(false))
+                .forEach(SessionRegistry::track);
+        BrowserProcessInspector.findBrowserPids(driver).forEach(pid -> ProcessHandle.of(pid).ifPresent(SessionRegistry::track));
+        write(registryDir);
+    }
+
+    /**
+     * Terminate processes recorded by JVMs that are no longer running and delete their registry files
+     */
+    public static void reapOrphans(Path registryDir) {
+        if (!Files.isDirectory(registryDir)) {
+            return;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(registryDir, "*.properties")) {
+            for (Path file : files) {
+                Properties registry = read(file);
+                long jvmPid = Long.parseLong(registry.getProperty(JVM_PID, "-1"));
+                if (jvmPid == ProcessHandle.current().pid()
+                        || isSameProcess(jvmPid, Long.parseLong(registry.getProperty(JVM_STARTED, "0")))) {
+                    continue;
+                }
+                int reaped = 0;
+                for (String key : registry.stringPropertyNames()) {
+                    if (key.startsWith("process.")) {
+                        long pid = Long.parseLong(key.substring("process.".length()));
+                        if (terminate(pid, Long.parseLong(registry.getProperty(key)))) {
+                            reaped++;
+                        }
+                    }
+                }
+                Files.deleteIfExists(file);
+                if (reaped > 0) {
+                    logger.warn("Terminated {} orphaned driver/browser process(es) left by JVM {}", reaped, jvmPid);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Could not reap orphaned browser sessions in {}", registryDir, e);
+        }
+    }
+
+    private static void track(ProcessHandle process) {
+        startMillis(process).ifPresent(started -> trackedProcesses.put(process.pid(), started));
+    }
+
+    private static synchronized void write(Path registryDir) {
+        trackedProcesses.entrySet().removeIf(entry -> !isSameProcess(entry.getKey(), entry.getValue()));
+        ProcessHandle self = ProcessHandle.current();
+        Properties registry = new Properties();
+        registry.setProperty(JVM_PID, String.valueOf(self.pid()));
+        registry.setProperty(JVM_STARTED, String.valueOf(startMillis(self).orElse(0L)));
+        trackedProcesses.forEach((pid, started) -> registry.setProperty("process." + pid, String.valueOf(started)));
+        try {
+            Files.createDirectories(registryDir);
+            Path file = registryDir.resolve(self.pid() + ".properties");
+            Path tempFile = Files.createTempFile(registryDir, self.pid() + "-", ".tmp");
+            try (OutputStream out = Files.newOutputStream(tempFile)) {
+                registry.store(out, "Browser sessions started by JVM " + self.pid());
+            }
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.warn("Could not update session registry in {}", registryDir, e);
+        }
+    }
+
+    private static Properties read(Path file) throws IOException {
+        Properties registry = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+            registry.load(in);
+        }
+        return registry;
+    }
+
+    private static boolean terminate(long pid, long startedMillis) {
+        Optional<ProcessHandle> process = ProcessHandle.of(pid)
+                .filter(handle -> startMillis(handle).map(started -> started == startedMillis).orElse(false));
+        if (process.isEmpty()) {
+            return false;
+        }
+        // Children first, so a browser does not outlive the driver that spawned it
+        process.get().descendants().forEach(ProcessHandle::destroy);
+        process.get().destroy();
+        try {
+            process.get().onExit().get(TERMINATION_GRACE.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            process.get().descendants().forEach(ProcessHandle::destroyForcibly);
+            process.get().destroyForcibly();
+        }
+        return true;
+    }
+
+    private static boolean isSameProcess(long pid, long startedMillis) {
+        return ProcessHandle.of(pid)
+                .flatMap(SessionRegistry::startMillis)
+                .map(started -> started == startedMillis)
+                .orElse(false);
+    }
+
+    private static Optional<Long> startMillis(ProcessHandle process) {
+        return process.info().startInstant().map(Instant::toEpochMilli);
+    }
+}
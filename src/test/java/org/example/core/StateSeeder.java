@@ -0,0 +1,167 @@
+package org.example.core;
+
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Declarative scenario preconditions (currency, language, cart, wishlist, banners, cookies, storage)
+ * Queued by Given-steps and applied through back-channel requests before the scenario's first page load,
+ * instead of reaching the state by driving the UI
+ */
+public class StateSeeder {
+
+    private static final Logger logger = LoggerFactory.getLogger(StateSeeder.class);
+    private static final Properties config = TestConfig.properties();
+    private static final ThreadLocal<StateSeeder> currentScenario = new ThreadLocal<>();
+
+    private static final int CART = 1;
+    private static final int WISHLIST = 2;
+
+    // Requests run in order in the page; POSTs carry the anti-forgery token the store requires
+    private static final String SEED_SCRIPT =
+            "var done = arguments[arguments.length - 1], requests = arguments[0], storage = arguments[1];" +
+            "Object.keys(storage).forEach(function (k) { window.localStorage.setItem(k, storage[k]); });" +
+            "var failures = [], token = null;" +
+            "function antiForgeryToken() {" +
+            "  if (token !== null) { return Promise.resolve(token); }" +
+            "  return fetch('/', { credentials: 'include' }).then(function (r) { return r.text(); }).then(function (html) {" +
+            "    var m = html.match(/name=\"__RequestVerificationToken\"[^>]*value=\"([^\"]+)\"/);" +
+            "    token = m ? m[1] : ''; return token; });" +
+            "}" +
+            "requests.reduce(function (chain, req) {" +
+            "  return chain.then(function () {" +
+            "    var send = req.method === 'GET'" +
+            "      ? fetch(req.path, { credentials: 'include', redirect: 'follow' })" +
+            "      : antiForgeryToken().then(function (t) {" +
+            "          return fetch(req.path, { method: 'POST', credentials: 'include'," +
+            "            headers: { 'Content-Type': 'application/x-www-form-urlencoded', 'X-Requested-With': 'XMLHttpRequest' }," +
+            "            body: '__RequestVerificationToken=' + encodeURIComponent(t) }); });" +
+            "    return send.then(function (r) { if (!r.ok) { failures.push(req.path + ' -> ' + r.status); } })" +
+            "      .catch(function (e) { failures.push(req.path + ' -> ' + e); });" +
+            "  });" +
+            "}, Promise.resolve()).then(function () { done(failures); });";
+
+    private final List<Map<String, String>> requests = new ArrayList<>();
+    private final Map<String, String> cookies = new LinkedHashMap<>();
+    private final Map<String, String> localStorage = new LinkedHashMap<>();
+
+    /**
+     * Preconditions of the scenario running on the current thread
+     */
+    public static StateSeeder forCurrentScenario() {
+        StateSeeder seeder = currentScenario.get();
+        if (seeder == null) {
+            seeder = new StateSeeder();
+            currentScenario.set(seeder);
+        }
+        return seeder;
+    }
+
+    /**
+     * Forget the current thread's preconditions, e.g. when its scenario ends
+     */
+    public static void clear() {
+        currentScenario.remove();
+    }
+
+    /**
+     * Apply and clear the current thread's queued preconditions; the caller loads the page afterwards
+     */
+    public static void applyPending(WebDriver driver) {
+        StateSeeder seeder = currentScenario.get();
+        if (seeder != null && !seeder.isEmpty()) {
+            currentScenario.remove();
+            seeder.apply(driver, config.getProperty("base.url"));
+        }
+    }
+
+    public StateSeeder currency(String currencyName) {
+        return get("/changecurrency/" + lookupId("currency", currencyName) + "?returnUrl=%2F");
+    }
+
+    public StateSeeder language(String languageName) {
+        return get("/changelanguage/" + lookupId("language", languageName) + "?returnUrl=%2F");
+    }
+
+    public StateSeeder addToCart(int productId, int quantity) {
+        return post("/addproducttocart/catalog/" + productId + "/" + CART + "/" + quantity);
+    }
+
+    public StateSeeder addToWishlist(int productId, int quantity) {
+        return post("/addproducttocart/catalog/" + productId + "/" + WISHLIST + "/" + quantity);
+    }
+
+    public StateSeeder dismissBanners() {
+        return post(config.getProperty("seed.banners.dismiss.path", "/eucookielawaccept"));
+    }
+
+    public StateSeeder cookie(String name, String value) {
+        cookies.put(name, value);
+        return this;
+    }
+
+    public StateSeeder localStorage(String key, String value) {
+        localStorage.put(key, value);
+        return this;
+    }
+
+    public boolean isEmpty() {
+        return requests.isEmpty() && cookies.isEmpty() && localStorage.isEmpty();
+    }
+
+    private void apply(WebDriver driver, String baseUrl) {
+        long start = System.currentTimeMillis();
+        // Cookies, storage and same-origin requests need the store's origin, but not a rendered store page
+        if (!sameOrigin(driver.getCurrentUrl(), baseUrl)) {
+            driver.get(URI.create(baseUrl).resolve(config.getProperty("seed.landing.path", "/robots.txt")).toString());
+        }
+        cookies.forEach((name, value) -> driver.manage().addCookie(new Cookie(name, value, "/")));
+
+        Object failures = ((JavascriptExecutor) driver).executeAsyncScript(SEED_SCRIPT, requests, localStorage);
+        if (failures instanceof List<?> failed && !failed.isEmpty()) {
+            throw new IllegalStateException("Could not seed scenario state: " + failed);
+        }
+        logger.info("Seeded {} request(s), {} cookie(s) and {} storage entr(ies) in {} ms",
+                requests.size(), cookies.size(), localStorage.size(), System.currentTimeMillis() - start);
+    }
+
+    private StateSeeder get(String path) {
+        requests.add(Map.of("method", "GET", "path", path));
+        return this;
+    }
+
+    private StateSeeder post(String path) {
+        requests.add(Map.of("method", "POST", "path", path));
+        return this;
+    }
+
+    // Ids are store data, so they live in config: seed.currency.euro=6, seed.language.english=1, ...
+    private static String lookupId(String kind, String name) {
+        String key = "seed." + kind + "." + name.trim().toLowerCase().replaceAll("\\s+", "-");
+        String id = config.getProperty(key);
+        if (id == null) {
+            throw new IllegalArgumentException("No " + kind + " id configured for '" + name + "' (" + key + ")");
+        }
+        return id;
+    }
+
+    private static boolean sameOrigin(String url, String baseUrl) {
+        try {
+            URI current = URI.create(url);
+            URI base = URI.create(baseUrl);
+            return base.getScheme().equals(current.getScheme()) && base.getAuthority().equals(current.getAuthority());
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+}
@@ -1,106 +1,112 @@
 package org.example.core;
 
-import io.github.bonigarcia.wdm.WebDriverManager;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.chrome.ChromeOptions;
-import org.openqa.selenium.firefox.FirefoxDriver;
-import org.openqa.selenium.firefox.FirefoxOptions;
-import org.openqa.selenium.edge.EdgeDriver;
-import org.openqa.selenium.edge.EdgeOptions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Parameters;
 
-import java.io.FileInputStream;
-import java.io.IOException;
 import java.time.Duration;
 import java.util.Properties;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 
 public class TestBase {
     
+    private static final Map<String, DriverPool> driverPools = new ConcurrentHashMap<>();
+    
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> driverPools.values().forEach(DriverPool::shutdown)));
+    }
+    
     protected WebDriver driver;
     protected WebDriverWait wait;
     protected Properties config;
+    private Consumer<WebDriver> driverReleaser;
+    private String browserType;
     
     @BeforeMethod
     @Parameters({"browser"})
     public void setUp(String browser) {
-        loadConfig();
-        driver = createDriver(browser != null ? browser : config.getProperty("browser", "chrome"));
-        wait = new WebDriverWait(driver, Duration.ofSeconds(Integer.parseInt(config.getProperty("explicit.wait", "20"))));
-        driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(Integer.parseInt(config.getProperty("implicit.wait", "10"))));
-        driver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(Integer.parseInt(config.getProperty("page.load.timeout", "30"))));
-        driver.get(config.getProperty("base.url"));
-    }
-    
-    @AfterMethod
-    public void tearDown() {
-        if (driver != null) {
-            driver.quit();
+        config = TestConfig.properties();
+        browserType = browser != null ? browser : config.getProperty("browser", "chrome");
+        if (!Boolean.parseBoolean(config.getProperty("driver.lazy.enabled", "true"))) {
+            startDriver();
         }
     }
     
-    private void loadConfig() {
-        config = new Properties();
-        try {
-            config.load(new FileInputStream("src/main/resources/config.properties"));
-        } catch (IOException e) {
-            throw new RuntimeException("Failed to load configuration file", e);
+    // Starts the browser on first use so non-UI tests never pay for one
+    protected WebDriver startDriver() {
+        if (driver == null) {
+            driver = acquireDriver(browserType);
+            wait = new WebDriverWait(driver, Duration.ofSeconds(Integer.parseInt(config.getProperty("explicit.wait", "20"))));
+            StateSeeder.applyPending(driver);
+            driver.get(config.getProperty("base.url"));
         }
+        return driver;
     }
     
-    private WebDriver createDriver(String browserType) {
-        return switch (browserType.toLowerCase()) {
-            case "chrome" -> createChromeDriver();
-            case "firefox" -> createFirefoxDriver();
-            case "edge" -> createEdgeDriver();
-            default -> throw new IllegalArgumentException("Unsupported browser: " + browserType);
-        };
-    }
-    
-    private WebDriver createChromeDriver() {
-        WebDriverManager.chromedriver().setup();
-        ChromeOptions options = new ChromeOptions();
-        
-        if (Boolean.parseBoolean(config.getProperty("headless", "false"))) {
-            options.addArguments("--headless");
+    @AfterMethod
+    public void tearDown() {
+        if (driver != null) {
+            Pages.forget(driver);
+            driverReleaser.accept(driver);
+            driverReleaser = null;
+            driver = null;
         }
-        
-        options.addArguments("--window-size=" + config.getProperty("window.size", "1920x1080"));
-        options.addArguments("--no-sandbox");
-        options.addArguments("--disable-dev-shm-usage");
-        options.addArguments("--disable-gpu");
-        
-        return new ChromeDriver(options);
     }
     
-    private WebDriver createFirefoxDriver() {
-        WebDriverManager.firefoxdriver().setup();
-        FirefoxOptions options = new FirefoxOptions();
-        
-        if (Boolean.parseBoolean(config.getProperty("headless", "false"))) {
-            options.addArguments("--headless");
+    private WebDriver acquireDriver(String browserType) {
+        String driverMode = config.getProperty("driver.mode", "local");
+        if ("remote".equalsIgnoreCase(driverMode)) {
+            // Queue for a grid slot here so the hub never has to hold a new-session request
+            GridSlotScheduler scheduler = GridSlotScheduler.forHub(config.getProperty("docker.selenium.hub.url"));
+            scheduler.acquire(browserType, Duration.ofSeconds(Integer.parseInt(config.getProperty("driver.pool.lease.timeout", "120"))));
+            try {
+                WebDriver remoteDriver = DriverFactory.createRemoteDriver(browserType, scheduler.getHubUrl());
+                driverReleaser = remote -> {
+                    try {
+                        remote.quit();
+                    } finally {
+                        scheduler.release(browserType);
+                    }
+                };
+                return remoteDriver;
+            } catch (RuntimeException e) {
+                scheduler.release(browserType);
+                throw e;
+            }
         }
-        
-        return new FirefoxDriver(options);
-    }
-    
-    private WebDriver createEdgeDriver() {
-        WebDriverManager.edgedriver().setup();
-        EdgeOptions options = new EdgeOptions();
-        
-        if (Boolean.parseBoolean(config.getProperty("headless", "false"))) {
-            options.addArguments("--headless");
+        if ("contexts".equalsIgnoreCase(driverMode)) {
+            // Isolated contexts inside one shared browser process instead of one browser per scenario
+            BrowserContextMultiplexer multiplexer = BrowserContextMultiplexer.forBrowser(browserType);
+            driverReleaser = multiplexer::closeContext;
+            return multiplexer.openContext();
         }
-        
-        return new EdgeDriver(options);
+        if (!Boolean.parseBoolean(config.getProperty("driver.pool.enabled", "true"))) {
+            driverReleaser = WebDriver::quit;
+            return DriverFactory.obtain(browserType);
+        }
+        DriverPool driverPool = driverPools.computeIfAbsent(browserType.toLowerCase(), type -> new DriverPool(
+                Integer.parseInt(config.getProperty("driver.pool.size", config.getProperty("parallel.threads", "2"))),
+                Duration.ofSeconds(Integer.parseInt(config.getProperty("driver.pool.lease.timeout", "120"))),
+                config.getProperty("base.url"),
+                () -> DriverFactory.obtain(type),
+                DriverHealthMonitor.fromConfig(config)));
+        driverReleaser = driverPool::release;
+        return driverPool.lease();
     }
     
     public WebDriver getDriver() {
-        return driver;
+        if (driver != null) {
+            return driver;
+        }
+        WebDriver registeredDriver = DriverRegistry.getDriver();
+        if (registeredDriver == null && browserType != null) {
+            return startDriver();
+        }
+        return registeredDriver;
     }
     
     public WebDriverWait getWait() {
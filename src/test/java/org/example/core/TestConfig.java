@@ -0,0 +1,37 @@
+package org.example.core;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Properties;
+
+/**
+ * config.properties, read once and shared by every class that needs a setting
+ * A missing or unreadable file leaves it empty so callers fall back to their defaults
+ */
+public final class TestConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(TestConfig.class);
+    private static final String CONFIG_FILE = "src/main/resources/config.properties";
+    private static final Properties config = load();
+
+    private TestConfig() {
+    }
+
+    private static Properties load() {
+        Properties props = new Properties();
+        try (InputStream in = new FileInputStream(CONFIG_FILE)) {
+            props.load(in);
+        } catch (IOException e) {
+            logger.warn("Could not load config.properties, using default values", e);
+        }
+        return props;
+    }
+
+    public static Properties properties() {
+        return config;
+    }
+}
@@ -0,0 +1,152 @@
+package org.example.core;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openqa.selenium.WebElement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Learned history of how long each element takes to become ready on each page, persisted across runs
+ * Picks the polling cadence and timeout of a wait and flags waits that are getting slower
+ */
+public class WaitProfile {
+
+    private static final Logger logger = LoggerFactory.getLogger(WaitProfile.class);
+    private static final Properties config = TestConfig.properties();
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static final int MAX_SAMPLES = 50;
+    private static final int MIN_SAMPLES = 5;
+    private static final Duration DEFAULT_POLL_INTERVAL = Duration.ofMillis(500);
+    private static final Duration MIN_POLL_INTERVAL = Duration.ofMillis(50);
+    private static final Duration MAX_POLL_INTERVAL = Duration.ofSeconds(2);
+    private static final Duration MIN_TIMEOUT = Duration.ofSeconds(15);
+    private static final Pattern LOCATOR_DESCRIPTION = Pattern.compile("(?:'(.+)'|-> (.+)\\])$");
+
+    private static final WaitProfile shared = new WaitProfile(
+            Paths.get(config.getProperty("wait.profile.path", ".cache/wait-profile.json")));
+
+    private final Path file;
+    private final Map<String, List<Long>> samplesByKey;
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(shared::save));
+    }
+
+    WaitProfile(Path file) {
+        this.file = file;
+        this.samplesByKey = new ConcurrentHashMap<>(load(file));
+    }
+
+    public static WaitProfile shared() {
+        return shared;
+    }
+
+    /**
+     * Stable key for a wait: page class, locator and condition (not the session-specific element id)
+     */
+    public static String keyFor(Class<?> page, WebElement element, String condition) {
+        String description = element.toString();
+        Matcher matcher = LOCATOR_DESCRIPTION.matcher(description);
+        if (matcher.find()) {
+            description = matcher.group(1) != null ? matcher.group(1) : matcher.group(2);
+        }
+        return page.getSimpleName() + "#" + description + "#" + condition;
+    }
+
+    /**
+     * Poll often for elements that are usually ready quickly and rarely for ones that usually take long
+     */
+    public Duration pollInterval(String key) {
+        List<Long> samples = samplesByKey.get(key);
+        if (samples == null || samples.size() < MIN_SAMPLES) {
+            return DEFAULT_POLL_INTERVAL;
+        }
+        long interval = percentile(samples, 50) / 5;
+        return Duration.ofMillis(Math.max(MIN_POLL_INTERVAL.toMillis(), Math.min(MAX_POLL_INTERVAL.toMillis(), interval)));
+    }
+
+    /**
+     * A timeout with generous headroom over the usual readiness time, never above the given maximum
+     */
+    public Duration timeout(String key, Duration max) {
+        List<Long> samples = samplesByKey.get(key);
+        if (samples == null || samples.size() < MIN_SAMPLES) {
+            return max;
+        }
+        long learned = Math.max(MIN_TIMEOUT.toMillis(), percentile(samples, 95) * 4);
+        return Duration.ofMillis(Math.min(max.toMillis(), learned));
+    }
+
+    /**
+     * Record how long a wait took and warn when it is well above its history
+     */
+    public void record(String key, Duration elapsed) {
+        List<Long> samples = samplesByKey.computeIfAbsent(key, k -> Collections.synchronizedList(new ArrayList<>()));
+        long elapsedMs = elapsed.toMillis();
+        if (samples.size() >= MIN_SAMPLES) {
+            long usual = percentile(samples, 95);
+            if (elapsedMs > Math.max(usual * 2, usual + 1000)) {
+                logger.warn("Wait regression: {} took {} ms, p95 so far is {} ms", key, elapsedMs, usual);
+            }
+        }
+        synchronized (samples) {
+            samples.add(elapsedMs);
+            if (samples.size() > MAX_SAMPLES) {
+                samples.remove(0);
+            }
+        }
+    }
+
+    void save() {
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            Path tempFile = Files.createTempFile(file.toAbsolutePath().getParent(), "wait-profile", ".tmp");
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(tempFile.toFile(), samplesByKey);
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.warn("Could not save wait profile to {}", file, e);
+        }
+    }
+
+    private static Map<String, List<Long>> load(Path file) {
+        if (!Files.exists(file)) {
+            return Map.of();
+        }
+        try {
+            Map<String, List<Long>> stored = objectMapper.readValue(file.toFile(), new TypeReference<Map<String, List<Long>>>() { });
+            Map<String, List<Long>> samples = new ConcurrentHashMap<>();
+            stored.forEach((key, values) -> samples.put(key, Collections.synchronizedList(new ArrayList<>(values))));
+            return samples;
+        } catch (IOException e) {
+            logger.warn("Ignoring unreadable wait profile {}", file, e);
+            return Map.of();
+        }
+    }
+
+    private static long percentile(List<Long> samples, int percentile) {
+        List<Long> sorted;
+        synchronized (samples) {
+            sorted = new ArrayList<>(samples);
+        }
+        Collections.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.size()) - 1;
+        return sorted.get(Math.max(0, Math.min(sorted.size() - 1, index)));
+    }
+}
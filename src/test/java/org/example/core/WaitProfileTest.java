@@ -0,0 +1,115 @@
+package org.example.core;
+
+import org.openqa.selenium.WebElement;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.testng.Assert.assertEquals;
+
+public class WaitProfileTest {
+
+    private static final String KEY = "Page#By.id: Email#visible";
+    private static final Duration MAX_TIMEOUT = Duration.ofSeconds(120);
+
+    private Path file;
+    private WaitProfile profile;
+
+    @BeforeMethod
+    public void createProfile() throws IOException {
+        file = Files.createTempDirectory("wait-profile").resolve("wait-profile.json");
+        profile = new WaitProfile(file);
+    }
+
+    @Test
+    public void usesDefaultsUntilEnoughSamplesAreRecorded() {
+        assertEquals(profile.pollInterval(KEY), Duration.ofMillis(500));
+        assertEquals(profile.timeout(KEY, MAX_TIMEOUT), MAX_TIMEOUT);
+
+        recordAll(1000, 1000, 1000, 1000);
+        assertEquals(profile.pollInterval(KEY), Duration.ofMillis(500));
+        assertEquals(profile.timeout(KEY, MAX_TIMEOUT), MAX_TIMEOUT);
+    }
+
+    @Test
+    public void pollsAtAFifthOfTheMedianReadinessTime() {
+        for (int i = 1; i <= 20; i++) {
+            profile.record(KEY, Duration.ofMillis(i * 100L));
+        }
+        assertEquals(profile.pollInterval(KEY), Duration.ofMillis(200));
+    }
+
+    @Test
+    public void clampsThePollInterval() {
+        recordAll(10, 10, 10, 10, 10);
+        assertEquals(profile.pollInterval(KEY), Duration.ofMillis(50));
+
+        recordAll(60_000, 60_000, 60_000, 60_000, 60_000, 60_000, 60_000, 60_000, 60_000, 60_000, 60_000);
+        assertEquals(profile.pollInterval(KEY), Duration.ofSeconds(2));
+    }
+
+    @Test
+    public void timesOutAtFourTimesTheP95() {
+        for (int i = 1; i <= 20; i++) {
+            profile.record(KEY, Duration.ofSeconds(i));
+        }
+        // p95 of 1..20 s is 19 s
+        assertEquals(profile.timeout(KEY, MAX_TIMEOUT), Duration.ofSeconds(76));
+    }
+
+    @Test
+    public void keepsTheTimeoutBetweenTheFloorAndTheMaximum() {
+        recordAll(100, 100, 100, 100, 100);
+        assertEquals(profile.timeout(KEY, MAX_TIMEOUT), Duration.ofSeconds(15));
+        assertEquals(profile.timeout(KEY, Duration.ofSeconds(10)), Duration.ofSeconds(10));
+    }
+
+    @Test
+    public void forgetsSamplesOutsideTheWindow() {
+        for (int i = 0; i < 10; i++) {
+            profile.record(KEY, Duration.ofSeconds(100));
+        }
+        for (int i = 0; i < 50; i++) {
+            profile.record(KEY, Duration.ofMillis(100));
+        }
+        assertEquals(profile.timeout(KEY, MAX_TIMEOUT), Duration.ofSeconds(15));
+    }
+
+    @Test
+    public void reloadsSavedSamples() {
+        recordAll(1000, 1000, 1000, 1000, 1000);
+        profile.save();
+
+        WaitProfile reloaded = new WaitProfile(file);
+        assertEquals(reloaded.pollInterval(KEY), Duration.ofMillis(200));
+    }
+
+    @Test
+    public void keysWaitsByLocatorRatherThanSession() {
+        assertEquals(WaitProfile.keyFor(WaitProfileTest.class, element("Proxy element for: CachingElementLocator 'By.id: Email'"), "visible"),
+                "WaitProfileTest#By.id: Email#visible");
+        assertEquals(WaitProfile.keyFor(WaitProfileTest.class, element("[[ChromeDriver: chrome on linux (4f2a)] -> id: Email]"), "text"),
+                "WaitProfileTest#id: Email#text");
+    }
+
+    private void recordAll(long... millis) {
+        for (long ms : millis) {
+            profile.record(KEY, Duration.ofMillis(ms));
+        }
+    }
+
+    private static WebElement element(String description) {
+        return (WebElement) Proxy.newProxyInstance(WaitProfileTest.class.getClassLoader(), new Class<?>[] {WebElement.class},
+                (proxy, method, args) -> {
+                    if ("toString".equals(method.getName())) {
+                        return description;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
@@ -0,0 +1,48 @@
+package org.example.listeners;
+
+import org.example.core.GridSlotScheduler;
+import org.example.core.TestConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IAlterSuiteListener;
+import org.testng.xml.XmlSuite;
+
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Sizes scenario concurrency from parallel.threads, or to the slots the Selenium Grid offers when
+ * running in remote mode. Registered through META-INF/services so Surefire runs pick it up as well.
+ */
+public class GridCapacityListener implements IAlterSuiteListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(GridCapacityListener.class);
+    private static final Properties config = TestConfig.properties();
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        int threads = Integer.parseInt(config.getProperty("parallel.threads", "4"));
+        boolean remote = "remote".equalsIgnoreCase(config.getProperty("driver.mode", "local"));
+        GridSlotScheduler scheduler = remote ? GridSlotScheduler.forHub(config.getProperty("docker.selenium.hub.url")) : null;
+        for (XmlSuite suite : suites) {
+            suite.setDataProviderThreadCount(remote ? gridThreads(scheduler, suite, threads) : threads);
+        }
+    }
+
+    private int gridThreads(GridSlotScheduler scheduler, XmlSuite suite, int configuredThreads) {
+        String browser = suite.getParameter("browser") != null
+                ? suite.getParameter("browser") : config.getProperty("browser", "chrome");
+        try {
+            int slots = scheduler.capacity(browser);
+            if (slots > 0) {
+                logger.info("Running suite '{}' with {} parallel scenario(s) to match the grid's {} slots",
+                        suite.getName(), slots, browser);
+                return slots;
+            }
+        } catch (IllegalStateException e) {
+            logger.warn("Could not size suite '{}' from grid status, keeping {} thread(s)",
+                    suite.getName(), configuredThreads, e);
+        }
+        return configuredThreads;
+    }
+}
@@ -78,6 +78,8 @@ public class TestListener implements ITestListener {
                    context.getSkippedTests().size());
     }
     
+    // Cucumber scenarios are screenshotted by Hooks' @After, which runs before this listener and while the
+    // scenario's driver is still registered; here only TestNG tests holding their own driver field are covered
     private WebDriver getDriverFromTest(ITestResult result) {
         try {
             // Try to get driver from the test instance
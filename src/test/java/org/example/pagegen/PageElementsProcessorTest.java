@@ -0,0 +1,149 @@
+package org.example.pagegen;
+
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.FindBy;
+import org.testng.annotations.Test;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Runs the processor through the system compiler on small page sources and checks the binder it writes
+ */
+public class PageElementsProcessorTest {
+
+    private static final String PAGE_HEADER =
+            "package pages;\n" +
+            "import java.util.List;\n" +
+            "import org.example.pagegen.GeneratedElements;\n" +
+            "import org.openqa.selenium.WebElement;\n" +
+            "import org.openqa.selenium.support.FindBy;\n" +
+            "import org.openqa.selenium.support.How;\n" +
+            "@GeneratedElements\n" +
+            "public class TestPage {\n";
+
+    @Test
+    public void writesLocatorConstantsAndFieldBindings() throws IOException {
+        Processed processed = process(
+                "    @FindBy(id = \"Email\") WebElement emailField;\n" +
+                "    @FindBy(css = \".item\") List<WebElement> items;\n" +
+                "    @FindBy(how = How.XPATH, using = \"//a[@class=\\\"ico-login\\\"]\") WebElement loginLink;\n" +
+                "    WebElement searchBox;\n" +
+                "    List<WebElement> notBound;\n" +
+                "    String notAnElement;\n");
+
+        assertTrue(processed.errors().isEmpty(), processed.errors().toString());
+        String binder = processed.binder();
+        assertTrue(binder.contains("public final class TestPage_Elements implements PageElementBinder<TestPage>"), binder);
+        assertTrue(binder.contains("public static final By EMAIL_FIELD = By.id(\"Email\");"), binder);
+        assertTrue(binder.contains("public static final By ITEMS = By.cssSelector(\".item\");"), binder);
+        assertTrue(binder.contains("public static final By LOGIN_LINK = By.xpath(\"//a[@class=\\\"ico-login\\\"]\");"), binder);
+        // Unannotated elements are looked up by id or name, as PageFactory does
+        assertTrue(binder.contains("public static final By SEARCH_BOX = new org.openqa.selenium.support.pagefactory.ByIdOrName(\"searchBox\");"), binder);
+        assertTrue(binder.contains("page.emailField = new LocatorBackedElement(new CachingElementLocator(searchContext, EMAIL_FIELD));"), binder);
+        assertTrue(binder.contains("page.items = new LocatorBackedElementList(new CachingElementLocator(searchContext, ITEMS));"), binder);
+        assertFalse(binder.contains("notBound"), binder);
+        assertFalse(binder.contains("notAnElement"), binder);
+    }
+
+    @Test
+    public void registersTheBinderAsAService() throws IOException {
+        Processed processed = process("    @FindBy(id = \"Email\") WebElement emailField;\n");
+        assertEquals(processed.serviceFile().trim(), "pages.TestPage_Elements");
+    }
+
+    @Test
+    public void rejectsFieldsTheBinderCannotAssign() throws IOException {
+        Processed processed = process(
+                "    @FindBy(id = \"Email\") private WebElement emailField;\n" +
+                "    @FindBy(id = \"Password\") static WebElement passwordField;\n");
+        assertEquals(processed.errors().size(), 2, processed.errors().toString());
+        assertTrue(processed.errors().get(0).contains("non-private, non-final instance fields"), processed.errors().toString());
+    }
+
+    @Test
+    public void rejectsFindByWithMoreThanOneStrategy() throws IOException {
+        Processed processed = process(
+                "    @FindBy(id = \"Email\", css = \"#Email\") WebElement emailField;\n" +
+                "    @FindBy(name = \"q\", how = How.ID, using = \"small-searchterms\") WebElement searchBox;\n");
+        assertEquals(processed.errors().size(), 2, processed.errors().toString());
+        assertTrue(processed.errors().get(0).contains("emailField sets 2 locator strategies"), processed.errors().toString());
+    }
+
+    @Test
+    public void rejectsFindByWithoutALocator() throws IOException {
+        Processed processed = process(
+                "    @FindBy WebElement emailField;\n" +
+                "    @FindBy(how = How.CSS) WebElement searchBox;\n");
+        assertEquals(processed.errors().size(), 2, processed.errors().toString());
+        assertTrue(processed.errors().get(0).contains("emailField has no locator"), processed.errors().toString());
+        assertTrue(processed.errors().get(1).contains("searchBox has no locator"), processed.errors().toString());
+    }
+
+    private Processed process(String fields) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        Path output = Files.createTempDirectory("pagegen");
+        String source = PAGE_HEADER + fields + "}\n";
+        JavaFileObject page = new SimpleJavaFileObject(URI.create("string:///pages/TestPage.java"), JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return source;
+            }
+        };
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8)) {
+            // Surefire may hide the real classpath behind a manifest jar, so name the jars the page source needs
+            fileManager.setLocationFromPaths(StandardLocation.CLASS_PATH,
+                    List.of(codeSource(WebElement.class), codeSource(FindBy.class), codeSource(GeneratedElements.class)));
+            fileManager.setLocationFromPaths(StandardLocation.SOURCE_OUTPUT, List.of(output));
+            fileManager.setLocationFromPaths(StandardLocation.CLASS_OUTPUT, List.of(output));
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics,
+                    List.of("-proc:only"), null, List.of(page));
+            task.setProcessors(List.of(new PageElementsProcessor()));
+            task.call();
+        }
+        List<String> errors = diagnostics.getDiagnostics().stream()
+                .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+                .map(diagnostic -> diagnostic.getMessage(null))
+                .collect(Collectors.toList());
+        return new Processed(output, errors);
+    }
+
+    private static Path codeSource(Class<?> type) {
+        try {
+            return Paths.get(type.getProtectionDomain().getCodeSource().getLocation().toURI());
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Processed(Path output, List<String> errors) {
+
+        String binder() throws IOException {
+            return Files.readString(output.resolve("pages/TestPage_Elements.java"));
+        }
+
+        String serviceFile() throws IOException {
+            return Files.readString(output.resolve("META-INF/services/" + PageElementBinder.class.getName()));
+        }
+    }
+}
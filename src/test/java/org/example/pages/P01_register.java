@@ -1,72 +1,81 @@
 package org.example.pages;
 
 import org.example.core.BasePage;
+import org.example.pagegen.GeneratedElements;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
-import org.openqa.selenium.support.ui.Select;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@GeneratedElements
 public class P01_register extends BasePage {
     
     private static final Logger logger = LoggerFactory.getLogger(P01_register.class);
     
     // Page elements
     @FindBy(css = "a[class=\"ico-register\"]")
-    private WebElement registerLink;
+    WebElement registerLink;
     
     @FindBy(id = "gender-male")
-    private WebElement maleGender;
+    WebElement maleGender;
     
     @FindBy(id = "gender-female")
-    private WebElement femaleGender;
+    WebElement femaleGender;
     
     @FindBy(id = "FirstName")
-    private WebElement firstName;
+    WebElement firstName;
     
     @FindBy(id = "LastName")
-    private WebElement lastName;
+    WebElement lastName;
     
     @FindBy(id = "Password")
-    private WebElement password;
+    WebElement password;
     
     @FindBy(id = "ConfirmPassword")
-    private WebElement passwordCon;
+    WebElement passwordCon;
     
     @FindBy(id = "Email")
-    private WebElement email;
+    WebElement email;
     
     @FindBy(id = "register-button")
-    private WebElement regButton;
+    WebElement regButton;
     
     @FindBy(className = "result")
-    private WebElement successMSG;
+    WebElement successMSG;
     
     @FindBy(css = ".message-error")
-    private WebElement errorMessage;
+    WebElement errorMessage;
     
     @FindBy(name = "DateOfBirthDay")
-    private WebElement dayDropdown;
+    WebElement dayDropdown;
     
     @FindBy(name = "DateOfBirthMonth")
-    private WebElement monthDropdown;
+    WebElement monthDropdown;
     
     @FindBy(name = "DateOfBirthYear")
-    private WebElement yearDropdown;
+    WebElement yearDropdown;
     
     public P01_register(WebDriver driver) {
         super(driver);
-        PageFactory.initElements(driver, this);
+    }
+    
+    @Override
+    protected List<WebElement> getReadinessElements() {
+        return List.of(firstName, lastName, email, password, regButton);
     }
     
     // Navigation methods
     public void navigateToRegistrationPage() {
         logger.info("Navigating to registration page");
-        driver.get(getBaseUrl() + "/register");
-        waitForElementVisible(registerLink);
+        navigateTo(getBaseUrl() + "/register");
+        waitForPageReady();
         logger.info("Registration page loaded successfully");
     }
     
@@ -112,27 +121,49 @@ public class P01_register extends BasePage {
     }
     
     public void birthDate() {
-        logger.info("Setting birth date");
-        Select day = new Select(dayDropdown);
-        day.selectByValue("4");
-        Select month = new Select(monthDropdown);
-        month.selectByValue("5");
-        Select year = new Select(yearDropdown);
-        year.selectByValue("1996");
-        logger.info("Birth date set successfully");
+        setBirthDate("4", "5", "1996");
     }
     
     public void setBirthDate(String day, String month, String year) {
         logger.info("Setting custom birth date: day={}, month={}, year={}", day, month, year);
-        Select daySelect = new Select(dayDropdown);
-        daySelect.selectByValue(day);
-        Select monthSelect = new Select(monthDropdown);
-        monthSelect.selectByValue(month);
-        Select yearSelect = new Select(yearDropdown);
-        yearSelect.selectByValue(year);
+        fillForm(List.of(
+                Map.entry(dayDropdown, day),
+                Map.entry(monthDropdown, month),
+                Map.entry(yearDropdown, year)));
         logger.info("Custom birth date set successfully");
     }
     
+    /**
+     * Fill the registration form in one go from user data as produced by TestDataManager.generateUserData:
+     * firstName, lastName, email, password, confirmPassword, day, month, year and gender; missing keys are skipped
+     */
+    public void fillRegistrationForm(Map<String, String> userData) {
+        logger.info("Filling registration form for: {}", userData.get("email"));
+        List<Map.Entry<WebElement, String>> fields = new ArrayList<>();
+        String gender = userData.get("gender");
+        if ("male".equalsIgnoreCase(gender)) {
+            fields.add(Map.entry(maleGender, "true"));
+        } else if ("female".equalsIgnoreCase(gender)) {
+            fields.add(Map.entry(femaleGender, "true"));
+        }
+        putIfPresent(fields, firstName, userData.get("firstName"));
+        putIfPresent(fields, lastName, userData.get("lastName"));
+        putIfPresent(fields, dayDropdown, userData.get("day"));
+        putIfPresent(fields, monthDropdown, userData.get("month"));
+        putIfPresent(fields, yearDropdown, userData.get("year"));
+        putIfPresent(fields, email, userData.get("email"));
+        putIfPresent(fields, password, userData.get("password"));
+        putIfPresent(fields, passwordCon, userData.getOrDefault("confirmPassword", userData.get("password")));
+        fillForm(fields);
+        logger.info("Registration form filled successfully");
+    }
+    
+    private static void putIfPresent(List<Map.Entry<WebElement, String>> fields, WebElement field, String value) {
+        if (value != null) {
+            fields.add(Map.entry(field, value));
+        }
+    }
+    
     // Action methods
     public void clickRegisterButton() {
         logger.info("Clicking register button");
@@ -142,10 +173,12 @@ public class P01_register extends BasePage {
     
     // Business logic methods
     public void registerUser(String firstName, String lastName, String email, String password) {
-        logger.info("Registering user with email: {}", email);
-        fillNames(firstName, lastName);
-        enterEmail(email);
-        fillPassword(password, password);
+        registerUser(Map.of("firstName", firstName, "lastName", lastName, "email", email, "password", password));
+    }
+    
+    public void registerUser(Map<String, String> userData) {
+        logger.info("Registering user with email: {}", userData.get("email"));
+        fillRegistrationForm(userData);
         clickRegisterButton();
         logger.info("User registration completed");
     }
@@ -153,12 +186,12 @@ public class P01_register extends BasePage {
     public void registerUserWithGender(String firstName, String lastName, String email, 
                                      String password, String gender) {
         logger.info("Registering user with gender: {}", gender);
-        if ("male".equalsIgnoreCase(gender)) {
-            selectMaleGender();
-        } else if ("female".equalsIgnoreCase(gender)) {
-            selectFemaleGender();
+        Map<String, String> userData = new HashMap<>(Map.of("firstName", firstName, "lastName", lastName,
+                "email", email, "password", password));
+        if (gender != null) {
+            userData.put("gender", gender);
         }
-        registerUser(firstName, lastName, email, password);
+        registerUser(userData);
     }
     
     // Validation methods
@@ -1,52 +1,66 @@
 package org.example.pages;
 
 import org.example.core.BasePage;
+import org.example.pagegen.GeneratedElements;
+import org.example.utils.AuthSessionCache;
+import org.openqa.selenium.By;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@GeneratedElements
 public class P02_login extends BasePage {
     
     private static final Logger logger = LoggerFactory.getLogger(P02_login.class);
+    private static final By LOGOUT_LINK = By.cssSelector("a.ico-logout");
+    private static final By LOGIN_ERRORS = By.cssSelector(".message-error, .field-validation-error");
     
     // Page elements
     @FindBy(css = "a[class=\"ico-login\"]")
-    private WebElement loginPageLink;
+    WebElement loginPageLink;
     
     @FindBy(id = "Email")
-    private WebElement emailField;
+    WebElement emailField;
     
     @FindBy(id = "Password")
-    private WebElement passwordField;
+    WebElement passwordField;
     
     @FindBy(xpath = "//button[@class=\"button-1 login-button\"]")
-    private WebElement loginButton;
+    WebElement loginButton;
     
     @FindBy(xpath = "//div[@class=\"message-error validation-summary-errors\"]")
-    private WebElement unsuccessMessage;
+    WebElement unsuccessMessage;
     
     @FindBy(css = "a[href=\"/customer/info\"]")
-    private WebElement accountLink;
+    WebElement accountLink;
     
     @FindBy(css = ".welcome-message")
-    private WebElement welcomeMessage;
+    WebElement welcomeMessage;
     
     @FindBy(css = ".login-form")
-    private WebElement loginForm;
+    WebElement loginForm;
     
     public P02_login(WebDriver driver) {
         super(driver);
-        PageFactory.initElements(driver, this);
+    }
+    
+    @Override
+    protected List<WebElement> getReadinessElements() {
+        return List.of(loginForm, emailField, passwordField, loginButton);
     }
     
     // Navigation methods
     public void navigateToLoginPage() {
         logger.info("Navigating to login page");
-        driver.get(getBaseUrl() + "/login");
-        waitForElementVisible(loginForm);
+        navigateTo(getBaseUrl() + "/login");
+        waitForPageReady();
         logger.info("Login page loaded successfully");
     }
     
@@ -79,16 +93,80 @@ public class P02_login extends BasePage {
     // Business logic methods
     public void loginSteps(String username, String password) {
         logger.info("Performing login steps with username: {}", username);
-        enterEmail(username);
-        enterPassword(password);
+        fillForm(List.of(
+                Map.entry(emailField, username),
+                Map.entry(passwordField, password)));
         logger.info("Login steps completed");
     }
     
     public void login(String username, String password) {
         logger.info("Logging in with username: {}", username);
+        if (restoreCachedSession(username, password)) {
+            logger.info("Login completed from cached session");
+            return;
+        }
+        if (submitLoginForm(username, password)) {
+            AuthSessionCache.capture(driver, username, password);
+        }
+        logger.info("Login completed");
+    }
+    
+    /**
+     * Log in through the form only, never from a cached session; fails when the login does not complete
+     */
+    public void loginThroughForm(String username, String password) {
+        logger.info("Logging in through the form with username: {}", username);
+        if (!submitLoginForm(username, password)) {
+            throw new IllegalStateException("Login through the form did not complete for " + username);
+        }
+        logger.info("Login completed");
+    }
+    
+    private boolean submitLoginForm(String username, String password) {
+        if (!getCurrentUrl().contains("/login")) {
+            navigateToLoginPage();
+        }
         loginSteps(username, password);
         clickLoginButton();
-        logger.info("Login completed");
+        return awaitLoggedIn();
+    }
+    
+    // The login POST redirects before the page shows the logged-in header; snapshotting earlier can
+    // miss the auth cookie. Stops as soon as the form reports an error instead.
+    private boolean awaitLoggedIn() {
+        try {
+            return wait.until(webDriver -> {
+                if (isElementPresentNow(LOGOUT_LINK) && AuthSessionCache.isAuthenticated(webDriver)) {
+                    return Optional.of(true);
+                }
+                return isElementPresentNow(LOGIN_ERRORS) ? Optional.of(false) : null;
+            }).get();
+        } catch (TimeoutException e) {
+            logger.warn("Login outcome did not show up, not caching the session");
+            return false;
+        }
+    }
+    
+    // Injects the session cached for these exact credentials and checks the server still accepts it
+    private boolean restoreCachedSession(String username, String password) {
+        if (!AuthSessionCache.hasSession(username, password)) {
+            return false;
+        }
+        if (!getCurrentUrl().startsWith(getBaseUrl())) {
+            navigateTo(getBaseUrl());
+        }
+        if (!AuthSessionCache.restore(driver, username, password)) {
+            return false;
+        }
+        navigateTo(getBaseUrl());
+        waitForPageReady();
+        if (isAccountLinkDisplayed()) {
+            return true;
+        }
+        logger.info("Cached session for {} was rejected, logging in through the form", username);
+        AuthSessionCache.invalidate(username, password);
+        driver.manage().deleteAllCookies();
+        return false;
     }
     
     public void loginWithRememberMe(String username, String password) {
@@ -1,100 +1,121 @@
 package org.example.pages;
 
 import org.example.core.BasePage;
+import org.example.core.BrowserContextMultiplexer;
+import org.example.pagegen.GeneratedElements;
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
 import org.openqa.selenium.support.ui.Select;
 import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
+@GeneratedElements
 public class P03_homePage extends BasePage {
     
     private static final Logger logger = LoggerFactory.getLogger(P03_homePage.class);
+    private static final Duration SUGGESTION_WINDOW = Duration.ofSeconds(2);
+    private static final Duration SLIDER_MAX_WAIT = Duration.ofSeconds(60);
+    private static final int MAX_WISHLIST_CLEAR_PASSES = 3;
+    private static final By WISHLIST_REMOVE_CHECKBOXES = By.cssSelector(".wishlist-content input[name=\"removefromcart\"]");
+    private static final String REMOVE_WISHLIST_ITEMS_SCRIPT =
+            "var boxes = Array.prototype.slice.call(document.querySelectorAll('.wishlist-content input[name=\"removefromcart\"]'));" +
+            "if (!arguments[0]) { boxes = boxes.slice(0, 1); }" +
+            "if (!boxes.length || !boxes[0].form) { return false; }" +
+            "var update = boxes[0].form.querySelector('.update-wishlist-button, button[name=\"updatecart\"]');" +
+            "if (!update) { return false; }" +
+            "boxes.forEach(function (box) { box.checked = true; });" +
+            "update.click();" +
+            "return true;";
     
     // Search elements
     @FindBy(id = "small-searchterms")
-    private WebElement searchField;
+    WebElement searchField;
     
     @FindBy(css = "h2[class=\"product-title\"] > a")
-    private WebElement productTitle;
+    WebElement productTitle;
     
     @FindBy(css = "div[class=\"sku\"]> span[class=\"value\"]")
-    private WebElement skuElement;
+    WebElement skuElement;
     
     // Currency elements
     @FindBy(id = "customerCurrency")
-    private WebElement currencyList;
+    WebElement currencyList;
     
     @FindBy(css = "span[class=\"price actual-price\"]")
-    private List<WebElement> priceCurrencyElements;
+    List<WebElement> priceCurrencyElements;
     
     // Category elements
     @FindBy(css = "ul[class=\"top-menu notmobile\"]  > li > a[href]")
-    private List<WebElement> categories;
+    List<WebElement> categories;
     
     @FindBy(css = "div[class=\"page-title\"]")
-    private WebElement pageTitle;
+    WebElement pageTitle;
     
     // Slider elements
     @FindBy(css = "div[id=\"nivo-slider\"] a[class=\"nivo-imageLink\"]:nth-child(2)")
-    private WebElement firstSliderHref;
+    WebElement firstSliderHref;
     
     @FindBy(css = "div[id=\"nivo-slider\"] a[class=\"nivo-imageLink\"]:nth-child(3)")
-    private WebElement secondSliderHref;
+    WebElement secondSliderHref;
     
     // Social media elements
     @FindBy(css = "a[href=\"http://www.facebook.com/nopCommerce\"]")
-    private WebElement facebookIcon;
+    WebElement facebookIcon;
     
     @FindBy(css = "a[href=\"https://twitter.com/nopCommerce\"]")
-    private WebElement twitterIcon;
+    WebElement twitterIcon;
     
     @FindBy(css = "a[href=\"/news/rss/1\"]")
-    private WebElement rssIcon;
+    WebElement rssIcon;
     
     @FindBy(css = "a[href=\"http://www.youtube.com/user/nopCommerce\"]")
-    private WebElement youtubeIcon;
+    WebElement youtubeIcon;
     
     // Wishlist elements
     @FindBy(css = "div[data-productid=\"18\"]>div[class=\"details\"]>div[class=\"add-info\"]>div[class=\"buttons\"]> button[class=\"button-2 add-to-wishlist-button\"]")
-    private WebElement wishlistButton;
+    WebElement wishlistButton;
     
     @FindBy(css = "p[class=\"content\"]")
-    private WebElement wishlistMessage;
+    WebElement wishlistMessage;
     
     @FindBy(css = "div[class=\"header-links\"]>ul>li>a[href=\"/wishlist\"]")
-    private WebElement wishlistPageLink;
+    WebElement wishlistPageLink;
     
     @FindBy(css = "td[class=\"quantity\"]>input[value]")
-    private WebElement expectedQuantity;
+    WebElement expectedQuantity;
     
     public P03_homePage(WebDriver driver) {
         super(driver);
-        PageFactory.initElements(driver, this);
+    }
+    
+    @Override
+    protected List<WebElement> getReadinessElements() {
+        return List.of(searchField, currencyList);
     }
     
     // Navigation methods
     public void navigateToHomePage() {
         logger.info("Navigating to home page");
-        driver.get(getBaseUrl());
-        waitForElementVisible(searchField);
+        navigateTo(getBaseUrl());
+        waitForPageReady();
         logger.info("Home page loaded successfully");
     }
     
     // Search methods
     public void enterSearchTerm(String searchTerm) {
         logger.info("Entering search term: {}", searchTerm);
-        sendKeysToElement(searchField, searchTerm);
+        // The suggestion box listens for key events
+        typeIntoElementNatively(searchField, searchTerm);
         logger.info("Search term entered successfully");
     }
     
@@ -114,8 +135,9 @@ public class P03_homePage extends BasePage {
     // Currency methods
     public void selectCurrency(String currencyName) {
         logger.info("Selecting currency: {}", currencyName);
-        Select select = new Select(currencyList);
-        select.selectByVisibleText(currencyName);
+        selectOptionByText(currencyList, currencyName);
+        // The selection reloads the page with the new prices
+        waitForNetworkIdle();
         logger.info("Currency selected successfully");
     }
     
@@ -126,9 +148,7 @@ public class P03_homePage extends BasePage {
     
     public List<String> getProductPrices() {
         logger.info("Getting product prices");
-        List<String> prices = priceCurrencyElements.stream()
-                .map(this::getElementText)
-                .collect(Collectors.toList());
+        List<String> prices = readTexts(priceCurrencyElements);
         logger.info("Found {} product prices", prices.size());
         return prices;
     }
@@ -141,19 +161,14 @@ public class P03_homePage extends BasePage {
     // Category methods
     public List<String> getCategoryNames() {
         logger.info("Getting category names");
-        List<String> categoryNames = categories.stream()
-                .map(this::getElementText)
-                .collect(Collectors.toList());
+        List<String> categoryNames = readTexts(categories);
         logger.info("Found {} categories", categoryNames.size());
         return categoryNames;
     }
     
     public void clickCategory(String categoryName) {
         logger.info("Clicking category: {}", categoryName);
-        WebElement category = categories.stream()
-                .filter(cat -> getElementText(cat).equalsIgnoreCase(categoryName))
-                .findFirst()
-                .orElse(null);
+        WebElement category = findCategory(categoryName);
         
         if (category != null) {
             clickElement(category);
@@ -164,20 +179,29 @@ public class P03_homePage extends BasePage {
         }
     }
     
+    // Matches on names read in one call, then resolves only the matching element
+    private WebElement findCategory(String categoryName) {
+        List<WebElement> categoryElements = new ArrayList<>(categories);
+        List<String> categoryNames = readTexts(categoryElements);
+        for (int i = 0; i < categoryNames.size(); i++) {
+            if (categoryNames.get(i).equalsIgnoreCase(categoryName)) {
+                return categoryElements.get(i);
+            }
+        }
+        return null;
+    }
+    
     public List<WebElement> getSubCategories(int categoryNum) {
         logger.info("Getting subcategories for category number: {}", categoryNum);
         String xpath = "//ul[@class=\"top-menu notmobile\"]/li[" + categoryNum + "]/ul[@class=\"sublist first-level\"]/li";
-        List<WebElement> subCategories = driver.findElements(By.xpath(xpath));
+        List<WebElement> subCategories = findElementsNow(By.xpath(xpath));
         logger.info("Found {} subcategories", subCategories.size());
         return subCategories;
     }
     
     public void hoverOverCategory(String categoryName) {
         logger.info("Hovering over category: {}", categoryName);
-        WebElement category = categories.stream()
-                .filter(cat -> getElementText(cat).equalsIgnoreCase(categoryName))
-                .findFirst()
-                .orElse(null);
+        WebElement category = findCategory(categoryName);
         
         if (category != null) {
             actions.moveToElement(category).perform();
@@ -212,8 +236,7 @@ public class P03_homePage extends BasePage {
     
     public void waitForSlider(WebElement slider) {
         logger.info("Waiting for slider to be visible");
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(60));
-        wait.until(ExpectedConditions.attributeContains(slider, "style", "display: block;"));
+        waitProfiled(slider, "shown", SLIDER_MAX_WAIT, ExpectedConditions.attributeContains(slider, "style", "display: block;"));
         logger.info("Slider is now visible");
     }
     
@@ -246,9 +269,10 @@ public class P03_homePage extends BasePage {
         logger.info("YouTube icon clicked successfully");
     }
     
+    // Only this scenario's tabs: with driver.mode=contexts the shared browser also holds other scenarios' tabs
     public void switchToNewTab() {
         logger.info("Switching to new tab");
-        ArrayList<String> tabs = new ArrayList<>(driver.getWindowHandles());
+        ArrayList<String> tabs = new ArrayList<>(BrowserContextMultiplexer.windowHandles(driver));
         if (tabs.size() > 1) {
             driver.switchTo().window(tabs.get(1));
             logger.info("Switched to new tab successfully");
@@ -260,7 +284,7 @@ public class P03_homePage extends BasePage {
     public void closeCurrentTab() {
         logger.info("Closing current tab");
         driver.close();
-        ArrayList<String> tabs = new ArrayList<>(driver.getWindowHandles());
+        ArrayList<String> tabs = new ArrayList<>(BrowserContextMultiplexer.windowHandles(driver));
         if (!tabs.isEmpty()) {
             driver.switchTo().window(tabs.get(0));
             logger.info("Closed current tab and switched back to original tab");
@@ -271,6 +295,7 @@ public class P03_homePage extends BasePage {
     public void clickWishlistButton() {
         logger.info("Clicking wishlist button");
         clickElement(wishlistButton);
+        waitForNetworkIdle();
         logger.info("Wishlist button clicked successfully");
     }
     
@@ -398,11 +423,11 @@ public class P03_homePage extends BasePage {
     }
     
     public boolean hasSearchResults() {
-        return driver.findElements(By.cssSelector(".product-item")).size() > 0;
+        return isElementPresentNow(By.cssSelector(".product-item"));
     }
     
     public int getSearchResultCount() {
-        return driver.findElements(By.cssSelector(".product-item")).size();
+        return findElementsNow(By.cssSelector(".product-item")).size();
     }
     
     public String getNoSearchResultsMessage() {
@@ -411,11 +436,12 @@ public class P03_homePage extends BasePage {
     }
     
     public boolean hasSearchSuggestions() {
-        return driver.findElements(By.cssSelector(".search-suggestions")).size() > 0;
+        // Suggestions are fetched after typing, so allow them a short window instead of the implicit wait
+        return isElementPresentWithin(By.cssSelector(".search-suggestions"), SUGGESTION_WINDOW);
     }
     
     public int getSearchSuggestionCount() {
-        return driver.findElements(By.cssSelector(".search-suggestions li")).size();
+        return findElementsNow(By.cssSelector(".search-suggestions li")).size();
     }
     
     // Product methods
@@ -445,7 +471,7 @@ public class P03_homePage extends BasePage {
     
     public boolean isSubcategoryDropdownDisplayed(String categoryName) {
         hoverOverCategory(categoryName);
-        return driver.findElements(By.cssSelector(".sublist")).size() > 0;
+        return isElementPresentNow(By.cssSelector(".sublist"));
     }
     
     private int getCategoryIndex(String categoryName) {
@@ -545,18 +571,60 @@ public class P03_homePage extends BasePage {
     }
     
     public int getWishlistProductCount() {
-        return driver.findElements(By.cssSelector(".wishlist-content .cart-item")).size();
+        return findElementsNow(By.cssSelector(".wishlist-content .cart-item")).size();
     }
     
     public void removeProductFromWishlist() {
-        WebElement removeButton = driver.findElement(By.cssSelector(".remove-from-cart"));
-        clickElement(removeButton);
+        removeWishlistItems(false);
     }
     
     public boolean isWishlistEmpty() {
         return getWishlistProductCount() == 0;
     }
     
+    // Every pass has to remove something; a wishlist that does not shrink fails the reset instead of looping
+    public void clearWishlist() {
+        logger.info("Clearing wishlist");
+        navigateTo(getBaseUrl() + "/wishlist");
+        waitForPageReady();
+        for (int pass = 0; pass < MAX_WISHLIST_CLEAR_PASSES && countRemovableWishlistItems() > 0; pass++) {
+            removeWishlistItems(true);
+        }
+        int left = countRemovableWishlistItems();
+        if (left > 0) {
+            throw new IllegalStateException("Wishlist still holds " + left + " item(s) after " + MAX_WISHLIST_CLEAR_PASSES + " passes");
+        }
+        logger.info("Wishlist cleared");
+    }
+    
+    private int countRemovableWishlistItems() {
+        return findElementsNow(WISHLIST_REMOVE_CHECKBOXES).size();
+    }
+    
+    // Ticks the rows' remove checkboxes and submits "Update wishlist", as the row remove buttons do
+    private void removeWishlistItems(boolean allRows) {
+        int before = countRemovableWishlistItems();
+        if (before == 0) {
+            return;
+        }
+        Object submitted = ((JavascriptExecutor) driver).executeScript(REMOVE_WISHLIST_ITEMS_SCRIPT, allRows);
+        if (!Boolean.TRUE.equals(submitted)) {
+            throw new IllegalStateException("Wishlist has no update control to remove items with");
+        }
+        try {
+            wait.until(webDriver -> {
+                try {
+                    return countRemovableWishlistItems() < before;
+                } catch (WebDriverException e) {
+                    // The wishlist page is being replaced
+                    return false;
+                }
+            });
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("Wishlist kept " + before + " item(s) after removing", e);
+        }
+    }
+    
     public void navigateToProductPage(String productIdentifier) {
         // Navigate to a specific product page
         // Placeholder implementation
@@ -4,6 +4,7 @@ import io.cucumber.java.en.And;
 import io.cucumber.java.en.Given;
 import io.cucumber.java.en.Then;
 import io.cucumber.java.en.When;
+import org.example.core.Pages;
 import org.example.core.TestBase;
 import org.example.pages.P01_register;
 import org.example.utils.TestDataManager;
@@ -24,7 +25,7 @@ public class D01_registerStepDef extends TestBase {
     @Given("user go to register page")
     public void go_to_registerPage() {
         logger.info("Navigating to registration page");
-        register = new P01_register(Hooks.getStaticDriver());
+        register = Pages.get(getDriver(), P01_register.class);
         userData = TestDataManager.generateUserData();
         
         // Cache the user data for potential reuse
@@ -111,7 +112,7 @@ public class D01_registerStepDef extends TestBase {
                          "Registration should be completed successfully");
         
         // Verify user is redirected to appropriate page
-        String currentUrl = driver.getCurrentUrl();
+        String currentUrl = getDriver().getCurrentUrl();
         Assert.assertTrue(currentUrl.contains("registerresult"), 
                          "User should be redirected to registration result page");
         
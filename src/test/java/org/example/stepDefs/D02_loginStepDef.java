@@ -4,8 +4,11 @@ import io.cucumber.java.en.And;
 import io.cucumber.java.en.Given;
 import io.cucumber.java.en.Then;
 import io.cucumber.java.en.When;
+import org.example.core.Pages;
 import org.example.core.TestBase;
+import org.example.pages.P01_register;
 import org.example.pages.P02_login;
+import org.example.utils.TestAccountPool;
 import org.example.utils.TestDataManager;
 import org.example.utils.TestDataCache;
 import org.testng.Assert;
@@ -24,11 +27,27 @@ public class D02_loginStepDef extends TestBase {
     @Given("user go to login page")
     public void user_open_browser() {
         logger.info("Navigating to login page");
-        login = new P02_login(Hooks.getStaticDriver());
+        login = Pages.get(getDriver(), P02_login.class);
         login.navigateToLoginPage();
         logger.info("Successfully navigated to login page");
     }
 
+    @Given("user is logged in with a leased account")
+    public void user_is_logged_in_with_a_leased_account() {
+        logger.info("Logging in with an account from the test account pool");
+        userData = TestAccountPool.lease(account -> {
+            P01_register register = Pages.get(getDriver(), P01_register.class);
+            register.navigateToRegistrationPage();
+            register.registerUser(account);
+            register.waitForRegistrationComplete();
+            // Registration signs the account in; drop it so the next one starts anonymous
+            getDriver().manage().deleteAllCookies();
+        });
+        login = Pages.get(getDriver(), P02_login.class);
+        login.login(userData.get("email"), userData.get("password"));
+        logger.info("Logged in with leased account {}", userData.get("email"));
+    }
+
     @When("^user login with \"(.*)\" and \"(.*)\"$")
     public void valid_data(String username, String password) {
         logger.info("Logging in with username: {}", username);
@@ -70,7 +89,7 @@ public class D02_loginStepDef extends TestBase {
         soft.assertTrue(isAccountLinkDisplayed, "Account link should be displayed after successful login");
         
         // Verify current URL
-        String currentUrl = driver.getCurrentUrl();
+        String currentUrl = getDriver().getCurrentUrl();
         String expectedUrl = "https://demo.nopcommerce.com/";
         soft.assertEquals(currentUrl, expectedUrl, "User should be redirected to home page after login");
         
@@ -125,7 +144,7 @@ public class D02_loginStepDef extends TestBase {
     public void user_should_be_redirected_to_login_page() {
         logger.info("Verifying user is redirected to login page");
         
-        String currentUrl = driver.getCurrentUrl();
+        String currentUrl = getDriver().getCurrentUrl();
         Assert.assertTrue(currentUrl.contains("login"), 
                          "User should be redirected to login page");
         
@@ -1,7 +1,11 @@
 package org.example.stepDefs;
 
+import io.cucumber.java.en.Given;
 import io.cucumber.java.en.Then;
 import io.cucumber.java.en.When;
+import org.example.core.DriverRegistry;
+import org.example.core.Pages;
+import org.example.core.StateSeeder;
 import org.example.core.TestBase;
 import org.example.pages.P03_homePage;
 import org.openqa.selenium.support.ui.Select;
@@ -17,10 +21,23 @@ public class D03_currenciesStepDef extends TestBase {
     private static final Logger logger = LoggerFactory.getLogger(D03_currenciesStepDef.class);
     private P03_homePage home;
 
+    @Given("the store currency is {string}")
+    public void the_store_currency_is(String currencyName) {
+        logger.info("Presetting store currency: {}", currencyName);
+        StateSeeder.forCurrentScenario().currency(currencyName);
+        if (DriverRegistry.peekDriver() != null) {
+            // The browser is already up, so apply now and reload instead of waiting for the first page load
+            StateSeeder.applyPending(getDriver());
+            getDriver().navigate().refresh();
+        }
+        home = Pages.get(getDriver(), P03_homePage.class);
+        logger.info("Store currency preset to {}", currencyName);
+    }
+
     @When("user select euro option")
     public void select_euro() {
         logger.info("Selecting Euro currency");
-        home = new P03_homePage(Hooks.getStaticDriver());
+        home = Pages.get(getDriver(), P03_homePage.class);
         home.selectCurrency("Euro");
         logger.info("Euro currency selected successfully");
     }
@@ -28,7 +45,7 @@ public class D03_currenciesStepDef extends TestBase {
     @When("user select dollar option")
     public void select_dollar() {
         logger.info("Selecting Dollar currency");
-        home = new P03_homePage(Hooks.getStaticDriver());
+        home = Pages.get(getDriver(), P03_homePage.class);
         home.selectCurrency("US Dollar");
         logger.info("Dollar currency selected successfully");
     }
@@ -36,7 +53,7 @@ public class D03_currenciesStepDef extends TestBase {
     @When("user select pound option")
     public void select_pound() {
         logger.info("Selecting Pound currency");
-        home = new P03_homePage(Hooks.getStaticDriver());
+        home = Pages.get(getDriver(), P03_homePage.class);
         home.selectCurrency("British pound");
         logger.info("Pound currency selected successfully");
     }
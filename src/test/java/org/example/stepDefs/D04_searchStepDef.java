@@ -3,6 +3,7 @@ package org.example.stepDefs;
 import io.cucumber.java.en.And;
 import io.cucumber.java.en.Then;
 import io.cucumber.java.en.When;
+import org.example.core.Pages;
 import org.example.core.TestBase;
 import org.example.pages.P03_homePage;
 import org.example.utils.TestDataManager;
@@ -19,7 +20,7 @@ public class D04_searchStepDef extends TestBase {
     @When("user clicks on search field")
     public void click_search() {
         logger.info("Clicking on search field");
-        home = new P03_homePage(Hooks.getStaticDriver());
+        home = Pages.get(getDriver(), P03_homePage.class);
         home.clickSearchField();
         logger.info("Search field clicked successfully");
     }
@@ -47,7 +48,7 @@ public class D04_searchStepDef extends TestBase {
         
         SoftAssert soft = new SoftAssert();
         String expectedUrl = "https://demo.nopcommerce.com/search?q=" + searchTerm;
-        String actualUrl = driver.getCurrentUrl();
+        String actualUrl = getDriver().getCurrentUrl();
         
         logger.info("Expected URL: {}", expectedUrl);
         logger.info("Actual URL: {}", actualUrl);
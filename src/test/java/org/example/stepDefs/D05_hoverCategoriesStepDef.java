@@ -3,6 +3,7 @@ package org.example.stepDefs;
 import io.cucumber.java.en.And;
 import io.cucumber.java.en.Then;
 import io.cucumber.java.en.When;
+import org.example.core.Pages;
 import org.example.core.TestBase;
 import org.example.pages.P03_homePage;
 import org.openqa.selenium.WebElement;
@@ -24,7 +25,7 @@ public class D05_hoverCategoriesStepDef extends TestBase {
     @When("user hover category and select subcategory then check if the name equals to page title")
     public void userHoverCategoryAndSelectSubcategoryThenCheckIfTheNameEqualsToPageTitle() {
         logger.info("Starting category hover and subcategory selection");
-        home = new P03_homePage(Hooks.getStaticDriver());
+        home = Pages.get(getDriver(), P03_homePage.class);
         
         // Get all categories
         List<String> categoryNames = home.getCategoryNames();
@@ -78,7 +79,7 @@ public class D05_hoverCategoriesStepDef extends TestBase {
     @When("user hovers over {string} category")
     public void user_hovers_over_category(String categoryName) {
         logger.info("Hovering over category: {}", categoryName);
-        home = new P03_homePage(Hooks.getStaticDriver());
+        home = Pages.get(getDriver(), P03_homePage.class);
         home.hoverOverCategory(categoryName);
         mainCategoryName = categoryName;
         logger.info("Hovered over category: {}", categoryName);
@@ -110,7 +111,7 @@ public class D05_hoverCategoriesStepDef extends TestBase {
     public void subcategory_page_should_be_loaded() {
         logger.info("Verifying subcategory page is loaded");
         
-        String currentUrl = driver.getCurrentUrl();
+        String currentUrl = getDriver().getCurrentUrl();
         String pageTitle = home.getPageTitle();
         
         logger.info("Current URL: {}", currentUrl);
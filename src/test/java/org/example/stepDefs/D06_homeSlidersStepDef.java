@@ -2,12 +2,12 @@ package org.example.stepDefs;
 
 import io.cucumber.java.en.Then;
 import io.cucumber.java.en.When;
+import org.example.core.Pages;
 import org.example.core.TestBase;
 import org.example.pages.P03_homePage;
 import org.testng.Assert;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.example.stepDefs.Hooks;
 
 public class D06_homeSlidersStepDef extends TestBase {
     
@@ -17,7 +17,7 @@ public class D06_homeSlidersStepDef extends TestBase {
     @When("clicking on the first slider")
     public void firstSlider() {
         logger.info("Clicking on the first slider");
-        home = new P03_homePage(Hooks.getStaticDriver());
+        home = Pages.get(getDriver(), P03_homePage.class);
         home.clickFirstSlider();
         logger.info("First slider clicked successfully");
     }
@@ -27,7 +27,7 @@ public class D06_homeSlidersStepDef extends TestBase {
         logger.info("Verifying navigation to Nokia page");
         
         String expectedUrl = "https://demo.nopcommerce.com/nokia-lumia-1020";
-        String actualUrl = driver.getCurrentUrl();
+        String actualUrl = getDriver().getCurrentUrl();
         
         logger.info("Expected URL: {}", expectedUrl);
         logger.info("Actual URL: {}", actualUrl);
@@ -41,7 +41,7 @@ public class D06_homeSlidersStepDef extends TestBase {
     @When("clicking on the second slider")
     public void clickingOnTheSecondSlider() {
         logger.info("Clicking on the second slider");
-        home = new P03_homePage(Hooks.getStaticDriver());
+        home = Pages.get(getDriver(), P03_homePage.class);
         home.clickSecondSlider();
         logger.info("Second slider clicked successfully");
     }
@@ -51,7 +51,7 @@ public class D06_homeSlidersStepDef extends TestBase {
         logger.info("Verifying navigation to iPhone page");
         
         String expectedUrl = "https://demo.nopcommerce.com/iphone-6";
-        String actualUrl = driver.getCurrentUrl();
+        String actualUrl = getDriver().getCurrentUrl();
         
         logger.info("Expected URL: {}", expectedUrl);
         logger.info("Actual URL: {}", actualUrl);
@@ -65,7 +65,7 @@ public class D06_homeSlidersStepDef extends TestBase {
     @When("user waits for slider to be visible")
     public void user_waits_for_slider_to_be_visible() {
         logger.info("Waiting for slider to be visible");
-        home = new P03_homePage(Hooks.getStaticDriver());
+        home = Pages.get(getDriver(), P03_homePage.class);
         home.waitForSliderToBeVisible();
         logger.info("Slider is now visible");
     }
@@ -86,15 +86,15 @@ public class D06_homeSlidersStepDef extends TestBase {
         
         // Test first slider
         home.clickFirstSlider();
-        String firstSliderUrl = driver.getCurrentUrl();
+        String firstSliderUrl = getDriver().getCurrentUrl();
         logger.info("First slider URL: {}", firstSliderUrl);
         
         // Navigate back
-        driver.navigate().back();
+        getDriver().navigate().back();
         
         // Test second slider
         home.clickSecondSlider();
-        String secondSliderUrl = driver.getCurrentUrl();
+        String secondSliderUrl = getDriver().getCurrentUrl();
         logger.info("Second slider URL: {}", secondSliderUrl);
         
         Assert.assertNotEquals(firstSliderUrl, secondSliderUrl, 
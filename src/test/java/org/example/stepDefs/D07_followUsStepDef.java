@@ -2,6 +2,8 @@ package org.example.stepDefs;
 
 import io.cucumber.java.en.Then;
 import io.cucumber.java.en.When;
+import org.example.core.BrowserContextMultiplexer;
+import org.example.core.Pages;
 import org.example.core.TestBase;
 import org.example.pages.P03_homePage;
 import org.testng.Assert;
@@ -16,7 +18,7 @@ public class D07_followUsStepDef extends TestBase {
     @When("clicking on the facebook icon")
     public void facebookIcon() {
         logger.info("Clicking on Facebook icon");
-        home = new P03_homePage(Hooks.getStaticDriver());
+        home = Pages.get(getDriver(), P03_homePage.class);
         home.clickFacebookIcon();
         home.switchToNewTab();
         logger.info("Facebook icon clicked and new tab opened");
@@ -27,7 +29,7 @@ public class D07_followUsStepDef extends TestBase {
         logger.info("Verifying Facebook URL");
         
         String expectedUrl = "https://web.facebook.com/nopCommerce?_rdc=1&_rdr";
-        String actualUrl = driver.getCurrentUrl();
+        String actualUrl = getDriver().getCurrentUrl();
         
         logger.info("Expected URL: {}", expectedUrl);
         logger.info("Actual URL: {}", actualUrl);
@@ -41,7 +43,7 @@ public class D07_followUsStepDef extends TestBase {
     @When("clicking on the twitter icon")
     public void clickingOnTheTwitterIcon() {
         logger.info("Clicking on Twitter icon");
-        home = new P03_homePage(Hooks.getStaticDriver());
+        home = Pages.get(getDriver(), P03_homePage.class);
         home.clickTwitterIcon();
         home.switchToNewTab();
         logger.info("Twitter icon clicked and new tab opened");
@@ -52,7 +54,7 @@ public class D07_followUsStepDef extends TestBase {
         logger.info("Verifying Twitter URL");
         
         String expectedUrl = "https://twitter.com/nopCommerce";
-        String actualUrl = driver.getCurrentUrl();
+        String actualUrl = getDriver().getCurrentUrl();
         
         logger.info("Expected URL: {}", expectedUrl);
         logger.info("Actual URL: {}", actualUrl);
@@ -66,7 +68,7 @@ public class D07_followUsStepDef extends TestBase {
     @When("clicking on the Rss icon")
     public void clickingOnTheRssIcon() {
         logger.info("Clicking on RSS icon");
-        home = new P03_homePage(Hooks.getStaticDriver());
+        home = Pages.get(getDriver(), P03_homePage.class);
         home.clickRssIcon();
         logger.info("RSS icon clicked");
     }
@@ -76,7 +78,7 @@ public class D07_followUsStepDef extends TestBase {
         logger.info("Verifying RSS URL");
         
         String expectedUrl = "https://demo.nopcommerce.com/new-online-store-is-open";
-        String actualUrl = driver.getCurrentUrl();
+        String actualUrl = getDriver().getCurrentUrl();
         
         logger.info("Expected URL: {}", expectedUrl);
         logger.info("Actual URL: {}", actualUrl);
@@ -90,7 +92,7 @@ public class D07_followUsStepDef extends TestBase {
     @When("clicking on the youtube icon")
     public void clickingOnTheYoutubeIcon() {
         logger.info("Clicking on YouTube icon");
-        home = new P03_homePage(Hooks.getStaticDriver());
+        home = Pages.get(getDriver(), P03_homePage.class);
         home.clickYoutubeIcon();
         home.switchToNewTab();
         logger.info("YouTube icon clicked and new tab opened");
@@ -101,7 +103,7 @@ public class D07_followUsStepDef extends TestBase {
         logger.info("Verifying YouTube URL");
         
         String expectedUrl = "https://www.youtube.com/user/nopCommerce";
-        String actualUrl = driver.getCurrentUrl();
+        String actualUrl = getDriver().getCurrentUrl();
         
         logger.info("Expected URL: {}", expectedUrl);
         logger.info("Actual URL: {}", actualUrl);
@@ -150,12 +152,12 @@ public class D07_followUsStepDef extends TestBase {
     public void new_tab_should_be_opened_for_external_links() {
         logger.info("Verifying new tab opens for external links");
         
-        int originalTabCount = driver.getWindowHandles().size();
+        int originalTabCount = BrowserContextMultiplexer.windowHandles(getDriver()).size();
         
         // Click on Facebook icon
         home.clickFacebookIcon();
         
-        int newTabCount = driver.getWindowHandles().size();
+        int newTabCount = BrowserContextMultiplexer.windowHandles(getDriver()).size();
         
         Assert.assertTrue(newTabCount > originalTabCount, 
                          "New tab should be opened for external link");
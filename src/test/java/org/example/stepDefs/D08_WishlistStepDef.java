@@ -3,13 +3,14 @@ package org.example.stepDefs;
 import io.cucumber.java.en.And;
 import io.cucumber.java.en.Then;
 import io.cucumber.java.en.When;
+import org.example.core.Pages;
 import org.example.core.TestBase;
 import org.example.pages.P03_homePage;
+import org.example.utils.TestAccountPool;
 import org.testng.Assert;
 import org.testng.asserts.SoftAssert;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.example.stepDefs.Hooks;
 
 public class D08_WishlistStepDef extends TestBase {
     
@@ -19,7 +20,8 @@ public class D08_WishlistStepDef extends TestBase {
     @When("put a product to wishlist")
     public void wishlistAnItem() {
         logger.info("Adding product to wishlist");
-        home = new P03_homePage(Hooks.getStaticDriver());
+        home = Pages.get(getDriver(), P03_homePage.class);
+        TestAccountPool.markDirty();
         home.clickWishlistButton();
         logger.info("Product added to wishlist successfully");
     }
@@ -77,7 +79,8 @@ public class D08_WishlistStepDef extends TestBase {
     @When("user adds multiple products to wishlist")
     public void user_adds_multiple_products_to_wishlist() {
         logger.info("Adding multiple products to wishlist");
-        home = new P03_homePage(Hooks.getStaticDriver());
+        home = Pages.get(getDriver(), P03_homePage.class);
+        TestAccountPool.markDirty();
         
         // Add first product
         home.clickWishlistButton();
@@ -105,7 +108,7 @@ public class D08_WishlistStepDef extends TestBase {
     @When("user removes product from wishlist")
     public void user_removes_product_from_wishlist() {
         logger.info("Removing product from wishlist");
-        home = new P03_homePage(Hooks.getStaticDriver());
+        home = Pages.get(getDriver(), P03_homePage.class);
         home.clickWishlistPage();
         home.removeProductFromWishlist();
         logger.info("Product removed from wishlist");
@@ -136,7 +139,7 @@ public class D08_WishlistStepDef extends TestBase {
         logger.info("Verifying wishlist page accessibility");
         
         home.clickWishlistPage();
-        String currentUrl = driver.getCurrentUrl();
+        String currentUrl = getDriver().getCurrentUrl();
         
         logger.info("Current URL: {}", currentUrl);
         Assert.assertTrue(currentUrl.contains("wishlist"), 
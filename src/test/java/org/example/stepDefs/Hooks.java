@@ -3,7 +3,14 @@ package org.example.stepDefs;
 import io.cucumber.java.After;
 import io.cucumber.java.Before;
 import io.cucumber.java.Scenario;
+import org.example.core.DriverRegistry;
+import org.example.core.Pages;
+import org.example.core.StateSeeder;
 import org.example.core.TestBase;
+import org.example.pages.P02_login;
+import org.example.pages.P03_homePage;
+import org.example.utils.AuthSessionCache;
+import org.example.utils.TestAccountPool;
 import org.openqa.selenium.OutputType;
 import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriver;
@@ -18,30 +25,46 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Map;
 
 public class Hooks extends TestBase {
     
     private static final Logger logger = LoggerFactory.getLogger(Hooks.class);
-    private static WebDriver staticDriver;
     
     @Before
     public void setUp(Scenario scenario) {
         logger.info("Starting scenario: {}", scenario.getName());
         super.setUp(null); // Use default browser from config
-        staticDriver = driver;
+        // The browser is only started when a step first asks for it (e.g. @api scenarios never do)
+        DriverRegistry.register(scenario.getId(), this::startDriver);
     }
     
     @After
     public void tearDown(Scenario scenario) {
         if (scenario.isFailed()) {
             logger.error("Scenario failed: {}", scenario.getName());
+            // Before the driver is unregistered and released; TestListener runs too late to find it
             takeScreenshot(scenario);
         } else {
             logger.info("Scenario passed: {}", scenario.getName());
         }
         
+        TestAccountPool.release(this::resetAccount);
+        StateSeeder.clear();
+        DriverRegistry.unregister();
         super.tearDown();
-        staticDriver = null;
+    }
+    
+    // Undo the account state scenarios change, so the next lease starts clean
+    private void resetAccount(Map<String, String> account) {
+        if (driver == null) {
+            return;
+        }
+        // Straight through the form: the reset must not depend on the session cache
+        if (!AuthSessionCache.isAuthenticated(driver)) {
+            Pages.get(driver, P02_login.class).loginThroughForm(account.get("email"), account.get("password"));
+        }
+        Pages.get(driver, P03_homePage.class).clearWishlist();
     }
     
     private void takeScreenshot(Scenario scenario) {
@@ -76,8 +99,9 @@ public class Hooks extends TestBase {
         }
     }
     
-    // Static accessor for backward compatibility with existing page objects
+    // Static accessor for backward compatibility, resolves the current scenario's driver
+    @Deprecated
     public static WebDriver getStaticDriver() {
-        return staticDriver;
+        return DriverRegistry.getDriver();
     }
 }
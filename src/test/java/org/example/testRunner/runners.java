@@ -2,8 +2,17 @@ package org.example.testRunner;
 
 import io.cucumber.testng.AbstractTestNGCucumberTests;
 import io.cucumber.testng.CucumberOptions;
+import org.example.core.DriverFactory;
+import org.example.core.TestConfig;
+import org.testng.ITestContext;
+import org.testng.annotations.BeforeClass;
 import org.testng.annotations.DataProvider;
 
+import java.util.Properties;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
 @CucumberOptions(
         features = "src/main/resources/features",
         glue = {"org.example.stepDefs"},
@@ -21,6 +30,38 @@ import org.testng.annotations.DataProvider;
 )
 public class runners extends AbstractTestNGCucumberTests {
     
+    // Tags whose scenarios never start a browser
+    private static final Set<String> BROWSERLESS_TAGS = Set.of("@api");
+    private static final Pattern TAG = Pattern.compile("@\\w+");
+    
+    @BeforeClass(alwaysRun = true)
+    public void prewarmDrivers(ITestContext context) {
+        // With lazy start, browsers come up on first use and DriverFactory.obtain keeps spares from then on
+        Properties config = TestConfig.properties();
+        if (Boolean.parseBoolean(config.getProperty("driver.lazy.enabled", "true")) || selectsOnlyBrowserlessTags()) {
+            return;
+        }
+        // Launch one browser per parallel slot while Cucumber is still building the scenario list
+        int slots = context.getSuite().getXmlSuite().getDataProviderThreadCount();
+        DriverFactory.prewarm(DriverFactory.getDefaultBrowser(), slots);
+    }
+    
+    private boolean selectsOnlyBrowserlessTags() {
+        String tags = System.getProperty("cucumber.filter.tags", getClass().getAnnotation(CucumberOptions.class).tags());
+        if (tags.isBlank() || tags.contains("not")) {
+            return false;
+        }
+        Matcher matcher = TAG.matcher(tags);
+        boolean found = false;
+        while (matcher.find()) {
+            if (!BROWSERLESS_TAGS.contains(matcher.group())) {
+                return false;
+            }
+            found = true;
+        }
+        return found;
+    }
+    
     @Override
     @DataProvider(parallel = true)
     public Object[][] scenarios() {
@@ -0,0 +1,156 @@
+package org.example.utils;
+
+import org.example.core.TestConfig;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Per-credentials snapshot of an authenticated browser session (cookies plus web storage)
+ * The first UI login captures it; later logins with the same username and password inject it and skip the form.
+ * Snapshots hold live auth cookies and are written through TestDataCache to target/test-data-cache,
+ * owner-readable only; clear that directory to drop them.
+ */
+public class AuthSessionCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuthSessionCache.class);
+    private static final Properties config = TestConfig.properties();
+
+    private static final String KEY_PREFIX = "auth_session_";
+    private static final String AUTH_COOKIE = config.getProperty("auth.cookie.name", ".Nop.Authentication");
+    private static final long SESSION_TTL_HOURS = Long.parseLong(config.getProperty("auth.session.ttl.hours", "1"));
+
+    /**
+     * Tell whether the browser currently holds an authentication cookie
+     */
+    public static boolean isAuthenticated(WebDriver driver) {
+        return driver.manage().getCookieNamed(AUTH_COOKIE) != null;
+    }
+
+    /**
+     * Tell whether a usable snapshot of the account's session is cached, without touching the browser
+     */
+    public static boolean hasSession(String account, String password) {
+        return TestDataCache.hasCachedData(cacheKey(account, password));
+    }
+
+    /**
+     * Snapshot the authenticated session of an account from the browser, once the login has completed
+     */
+    public static void capture(WebDriver driver, String account, String password) {
+        List<Map<String, Object>> cookies = new ArrayList<>();
+        for (Cookie cookie : driver.manage().getCookies()) {
+            Map<String, Object> stored = new HashMap<>();
+            stored.put("name", cookie.getName());
+            stored.put("value", cookie.getValue());
+            stored.put("domain", cookie.getDomain());
+            stored.put("path", cookie.getPath());
+            stored.put("expiry", cookie.getExpiry() != null ? cookie.getExpiry().getTime() : null);
+            stored.put("secure", cookie.isSecure());
+            stored.put("httpOnly", cookie.isHttpOnly());
+            stored.put("sameSite", cookie.getSameSite());
+            cookies.add(stored);
+        }
+
+        Map<String, Object> snapshot = new HashMap<>();
+        snapshot.put("cookies", cookies);
+        snapshot.put("localStorage", readStorage(driver, "localStorage"));
+        snapshot.put("sessionStorage", readStorage(driver, "sessionStorage"));
+        TestDataCache.cacheData(cacheKey(account, password), snapshot, SESSION_TTL_HOURS);
+        logger.info("Captured authenticated session for {} ({} cookies)", account, cookies.size());
+    }
+
+    /**
+     * Inject the cached session of an account into the browser, which must be on the application's origin.
+     * Returns false when there is no usable snapshot; the caller still has to verify the server accepts it.
+     */
+    @SuppressWarnings("unchecked")
+    public static boolean restore(WebDriver driver, String account, String password) {
+        Map<String, Object> snapshot = TestDataCache.getCachedData(cacheKey(account, password), Map.class);
+        if (snapshot == null) {
+            return false;
+        }
+
+        List<Map<String, Object>> cookies = (List<Map<String, Object>>) snapshot.get("cookies");
+        long now = System.currentTimeMillis();
+        boolean expired = cookies.stream().anyMatch(cookie -> AUTH_COOKIE.equals(cookie.get("name"))
+                && cookie.get("expiry") != null && ((Number) cookie.get("expiry")).longValue() <= now);
+        if (expired) {
+            logger.info("Cached session for {} has expired", account);
+            invalidate(account, password);
+            return false;
+        }
+
+        driver.manage().deleteAllCookies();
+        for (Map<String, Object> cookie : cookies) {
+            Cookie.Builder builder = new Cookie.Builder((String) cookie.get("name"), (String) cookie.get("value"))
+                    .path((String) cookie.get("path"))
+                    .isSecure(Boolean.TRUE.equals(cookie.get("secure")))
+                    .isHttpOnly(Boolean.TRUE.equals(cookie.get("httpOnly")));
+            if (cookie.get("domain") != null) {
+                builder.domain((String) cookie.get("domain"));
+            }
+            if (cookie.get("expiry") != null) {
+                builder.expiresOn(new Date(((Number) cookie.get("expiry")).longValue()));
+            }
+            if (cookie.get("sameSite") != null) {
+                builder.sameSite((String) cookie.get("sameSite"));
+            }
+            driver.manage().addCookie(builder.build());
+        }
+        writeStorage(driver, "localStorage", (Map<String, String>) snapshot.get("localStorage"));
+        writeStorage(driver, "sessionStorage", (Map<String, String>) snapshot.get("sessionStorage"));
+        logger.info("Restored cached session for {}", account);
+        return true;
+    }
+
+    /**
+     * Drop the cached session of an account, e.g. when the server no longer accepts it
+     */
+    public static void invalidate(String account, String password) {
+        TestDataCache.removeCachedData(cacheKey(account, password));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, String> readStorage(WebDriver driver, String storage) {
+        Object entries = ((JavascriptExecutor) driver).executeScript(
+                "var s = window[arguments[0]], out = {};" +
+                "for (var i = 0; i < s.length; i++) { out[s.key(i)] = s.getItem(s.key(i)); }" +
+                "return out;", storage);
+        return entries instanceof Map ? new HashMap<>((Map<String, String>) entries) : new HashMap<>();
+    }
+
+    private static void writeStorage(WebDriver driver, String storage, Map<String, String> entries) {
+        if (entries != null && !entries.isEmpty()) {
+            ((JavascriptExecutor) driver).executeScript(
+                    "var s = window[arguments[0]], entries = arguments[1];" +
+                    "Object.keys(entries).forEach(function (k) { s.setItem(k, entries[k]); });",
+                    storage, entries);
+        }
+    }
+
+    // Keyed on the credentials, so a login with another password never picks up the snapshot;
+    // hashed because keys become file names in the disk cache
+    private static String cacheKey(String account, String password) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest((account + "\0" + password).getBytes(StandardCharsets.UTF_8));
+            return KEY_PREFIX + HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
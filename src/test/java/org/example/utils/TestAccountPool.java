@@ -0,0 +1,142 @@
+package org.example.utils;
+
+import org.example.core.TestConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Pool of registered test accounts, each leased exclusively to one running scenario
+ * Accounts are provisioned in bulk once, kept in the test data cache across runs and reset between leases
+ */
+public class TestAccountPool {
+
+    private static final Logger logger = LoggerFactory.getLogger(TestAccountPool.class);
+    private static final Properties config = TestConfig.properties();
+
+    private static final String CACHE_KEY = "test_account_pool";
+    private static final int POOL_SIZE = Integer.parseInt(
+            config.getProperty("account.pool.size", config.getProperty("parallel.threads", "4")));
+    private static final Duration LEASE_TIMEOUT = Duration.ofSeconds(
+            Long.parseLong(config.getProperty("account.pool.lease.timeout", "300")));
+    private static final long ACCOUNT_TTL_HOURS = Long.parseLong(config.getProperty("account.pool.ttl.hours", "168"));
+
+    private static final List<Map<String, String>> allAccounts = new CopyOnWriteArrayList<>(loadAccounts());
+    private static final BlockingQueue<Map<String, String>> idleAccounts = new LinkedBlockingQueue<>(allAccounts);
+    private static final ThreadLocal<Map<String, String>> leasedAccount = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> leaseDirty = new ThreadLocal<>();
+
+    /**
+     * Lease an account for the scenario running on the current thread.
+     * When the pool is short of accounts the missing ones are registered in one go through the provisioner.
+     */
+    public static Map<String, String> lease(Consumer<Map<String, String>> provisioner) {
+        Map<String, String> account = leasedAccount.get();
+        if (account != null) {
+            return account;
+        }
+        account = idleAccounts.poll();
+        if (account == null) {
+            provisionMissing(provisioner);
+            try {
+                account = idleAccounts.poll(LEASE_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for a test account", e);
+            }
+            if (account == null) {
+                throw new IllegalStateException("Timed out after " + LEASE_TIMEOUT.toSeconds() + "s waiting for a test account");
+            }
+        }
+        leasedAccount.set(account);
+        logger.info("Leased test account {}", account.get("email"));
+        return account;
+    }
+
+    /**
+     * Account leased by the scenario running on the current thread, or null
+     */
+    public static Map<String, String> currentAccount() {
+        return leasedAccount.get();
+    }
+
+    /**
+     * Record that the scenario on the current thread changed state kept on its leased account (e.g. the wishlist),
+     * so the account is reset before its next lease. No-op when no account is leased.
+     */
+    public static void markDirty() {
+        if (leasedAccount.get() != null) {
+            leaseDirty.set(Boolean.TRUE);
+        }
+    }
+
+    /**
+     * Hand the current thread's account back to the pool, resetting it first if the scenario dirtied it.
+     * Accounts that cannot be reset are retired and replaced on a later lease.
+     */
+    public static void release(Consumer<Map<String, String>> resetter) {
+        Map<String, String> account = leasedAccount.get();
+        if (account == null) {
+            return;
+        }
+        boolean dirty = Boolean.TRUE.equals(leaseDirty.get());
+        leasedAccount.remove();
+        leaseDirty.remove();
+        try {
+            if (dirty) {
+                resetter.accept(account);
+            }
+            idleAccounts.offer(account);
+            logger.info("Returned test account {}", account.get("email"));
+        } catch (RuntimeException e) {
+            logger.warn("Could not reset test account {}, retiring it", account.get("email"), e);
+            allAccounts.remove(account);
+            persist();
+        }
+    }
+
+    public static int size() {
+        return allAccounts.size();
+    }
+
+    private static synchronized void provisionMissing(Consumer<Map<String, String>> provisioner) {
+        int missing = POOL_SIZE - allAccounts.size();
+        if (missing <= 0) {
+            return;
+        }
+        logger.info("Provisioning {} test account(s)", missing);
+        try {
+            for (int i = 0; i < missing; i++) {
+                Map<String, String> account = TestDataManager.generateUserData();
+                // Generated addresses may already exist on the shared demo site
+                account.put("email", "pool-" + UUID.randomUUID().toString().substring(0, 12) + "@example.com");
+                provisioner.accept(account);
+                allAccounts.add(account);
+                idleAccounts.offer(account);
+            }
+        } finally {
+            persist();
+        }
+    }
+
+    private static void persist() {
+        TestDataCache.cacheData(CACHE_KEY, new ArrayList<>(allAccounts), ACCOUNT_TTL_HOURS);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, String>> loadAccounts() {
+        List<Map<String, String>> accounts = TestDataCache.getCachedData(CACHE_KEY, List.class);
+        return accounts != null ? accounts : List.of();
+    }
+}
@@ -1,6 +1,8 @@
 package org.example.utils;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -9,9 +11,13 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
@@ -24,13 +30,16 @@ import java.util.concurrent.TimeUnit;
 public class TestDataCache {
     
     private static final Logger logger = LoggerFactory.getLogger(TestDataCache.class);
-    private static final ObjectMapper objectMapper = new ObjectMapper();
+    // Timestamps of cached entries are LocalDateTime, which needs the java.time module to reach the disk
+    private static final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
     
     // In-memory cache
     private static final Map<String, CachedData> memoryCache = new ConcurrentHashMap<>();
     
     // Cache configuration
     private static final String CACHE_DIR = "target/test-data-cache";
+    private static final Set<PosixFilePermission> OWNER_ONLY_DIRECTORY = PosixFilePermissions.fromString("rwx------");
+    private static final Set<PosixFilePermission> OWNER_ONLY_FILE = PosixFilePermissions.fromString("rw-------");
     private static final long CACHE_TTL_HOURS = 24; // 24 hours
     private static final int MAX_CACHE_SIZE = 1000;
     
@@ -213,6 +222,7 @@ public class TestDataCache {
                 Files.createDirectories(cachePath);
                 logger.info("Cache directory created: {}", CACHE_DIR);
             }
+            restrictToOwner(cachePath, OWNER_ONLY_DIRECTORY);
         } catch (IOException e) {
             logger.error("Failed to create cache directory", e);
         }
@@ -223,11 +233,19 @@ public class TestDataCache {
             Path filePath = Paths.get(CACHE_DIR, key + ".json");
             String json = objectMapper.writeValueAsString(data);
             Files.write(filePath, json.getBytes());
+            restrictToOwner(filePath, OWNER_ONLY_FILE);
         } catch (IOException e) {
             logger.error("Failed to save data to disk for key: {}", key, e);
         }
     }
     
+    // Entries include auth session cookies and account passwords; no-op on file systems without POSIX permissions
+    private static void restrictToOwner(Path path, Set<PosixFilePermission> permissions) throws IOException {
+        if (Files.getFileStore(path).supportsFileAttributeView(PosixFileAttributeView.class)) {
+            Files.setPosixFilePermissions(path, permissions);
+        }
+    }
+    
     private static CachedData loadFromDisk(String key) {
         try {
             Path filePath = Paths.get(CACHE_DIR, key + ".json");
@@ -368,6 +386,7 @@ public class TestDataCache {
         public LocalDateTime getCreatedAt() { return createdAt; }
         public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
         
+        @JsonIgnore
         public boolean isExpired() {
             return LocalDateTime.now().isAfter(expiresAt);
         }